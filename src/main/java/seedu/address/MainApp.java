@@ -2,10 +2,13 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -16,18 +19,20 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AppointmentBoundaryScheduler;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AddressBookBackups;
+import seedu.address.storage.BackupScheduler;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -45,6 +50,9 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AppointmentBoundaryScheduler appointmentBoundaryScheduler;
+    protected WriteBehindSaver addressBookSaver;
+    protected BackupScheduler backupScheduler;
 
     @Override
     public void init() throws Exception {
@@ -57,12 +65,20 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        storage = new StorageManager(StorageManager.createAddressBookStorage(userPrefs), userPrefsStorage);
+
+        Clock clock = Clock.systemDefaultZone();
+        model = initModelManager(storage, userPrefs, clock);
+        appointmentBoundaryScheduler = new AppointmentBoundaryScheduler(model, clock, Platform::runLater);
+
+        addressBookSaver = new WriteBehindSaver(storage, model::getAddressBook, Platform::runLater,
+                WriteBehindSaver.DEFAULT_MAX_STALENESS);
+        AddressBookBackups backups = new AddressBookBackups(userPrefs.getAddressBookFilePath());
+        if (userPrefs.getAddressBookBackupIntervalMinutes() > 0) {
+            backupScheduler = new BackupScheduler(backups, model::getAddressBook, Platform::runLater,
+                    Duration.ofMinutes(userPrefs.getAddressBookBackupIntervalMinutes()));
+        }
+        logic = new LogicManager(model, addressBookSaver, backups);
 
         ui = new UiManager(logic);
     }
@@ -72,7 +88,7 @@ public class MainApp extends Application {
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, Clock clock) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -90,7 +106,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, clock);
     }
 
     private void initLogging(Config config) {
@@ -172,11 +188,24 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        appointmentBoundaryScheduler.start();
+        if (backupScheduler != null) {
+            backupScheduler.start();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        appointmentBoundaryScheduler.stop();
+        if (backupScheduler != null) {
+            backupScheduler.stop();
+        }
+        try {
+            addressBookSaver.stop();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
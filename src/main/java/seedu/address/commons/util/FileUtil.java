@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,15 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes content to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -73,11 +90,65 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file atomically.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeAtomically(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to {@code file}, so that the file has either its old
+     * content or all of the new content, even if the application or computer crashes part way.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     * <p>
+     * The content is written to a temporary file next to {@code file}, forced to the disk, and then moved over
+     * {@code file}. The stream given to {@code contentWriter} does not need to be closed by it.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(new FilterOutputStream(out) {
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        out.write(b, off, len);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                });
+                out.flush();
+                channel.force(true);
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(file.toAbsolutePath().getParent());
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just moved into it, to the disk where the platform
+     * allows it.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened or forced on some platforms, which make moves durable without it.
+        }
     }
 
 }
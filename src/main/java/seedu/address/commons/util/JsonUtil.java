@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +97,46 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that reads the JSON file at {@code filePath} one token at a time. Values read through the
+     * parser, such as with {@link JsonParser#readValueAs(Class)}, are converted the same way as by
+     * {@link #readJsonFile(Path, Class)}.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.createParser(filePath.toFile());
+    }
+
+    /**
+     * Returns a parser that reads JSON from {@code in} one token at a time, as {@link #createParser(Path)} does.
+     * Closing the parser closes {@code in}.
+     *
+     * @param in cannot be null.
+     * @throws IOException if the parser could not be created.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.createParser(in);
+    }
+
+    /**
+     * Returns a generator that writes JSON to {@code out} one token at a time. Values written through the generator,
+     * such as with {@link JsonGenerator#writeObject(Object)}, are converted the same way as by
+     * {@link #saveJsonFile(Object, Path)}. Closing the generator closes {@code out}.
+     *
+     * @param out cannot be null.
+     * @param isPrettyPrinted whether to indent the output as {@link #toJsonString(Object)} does, or write it compactly.
+     * @throws IOException if the generator could not be created.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +156,15 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, without
+     * whitespace between tokens.
+     * @see #toJsonString(Object)
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
@@ -10,7 +12,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.Person;
 
 /**
@@ -26,6 +27,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the listener that is given the error message when saving the address book in the background fails,
+     * after the command that changed it has returned.
+     */
+    void setSaveErrorListener(Consumer<String> saveErrorListener);
+
     /**
      * Returns the AddressBook.
      *
@@ -36,17 +43,19 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Narrows the filtered list of persons to those with a name word or ID starting with any of {@code prefixes},
+     * ignoring case, or shows all persons if {@code prefixes} is empty.
+     * Used to preview the results of a find command while it is being typed.
+     */
+    void filterPersonsByPrefix(List<String> prefixes);
+
     /** Returns an unmodifiable view of the list of ALL upcoming appointments */
     ObservableList<Appointment> getUpcomingAppointmentList();
 
     /** Returns an unmodifiable view of the list of ALL past appointments */
     ObservableList<Appointment> getPastAppointmentList();
 
-    /**
-     * Returns an unmodifiable view of the filtered list of appointments for a specific person ID.
-     * Used by the view command.
-     */
-    ObservableList<Appointment> getFilteredAppointmentList(IdentityNumber personId);
 
     /** Returns an unmodifiable view of the list of upcoming appointments for the currently viewed person */
     ObservableList<Appointment> getViewedPersonUpcomingAppointmentList();
@@ -1,8 +1,13 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.value.ObservableValue;
@@ -17,9 +22,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.person.IdentityNumber;
+import seedu.address.model.person.NameOrIdStartsWithKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookBackups;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -33,16 +40,36 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindSaver saver;
     private final AddressBookParser addressBookParser;
 
+    private Consumer<String> saveErrorListener = unused -> { };
+
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address book
+     * after every command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new WriteBehindSaver(storage, model::getAddressBook, Runnable::run, Duration.ZERO));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, which saves the address book through
+     * {@code saver}.
+     */
+    public LogicManager(Model model, WriteBehindSaver saver) {
+        this(model, saver, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, which saves the address book through
+     * {@code saver}, and restores it from {@code backups} if they are not null.
+     */
+    public LogicManager(Model model, WriteBehindSaver saver, AddressBookBackups backups) {
         this.model = model;
-        this.storage = storage;
-        this.addressBookParser = new AddressBookParser();
+        this.saver = saver;
+        this.addressBookParser = new AddressBookParser(backups);
+        saver.setErrorHandler(e -> saveErrorListener.accept(toSaveErrorMessage(e)));
     }
 
     @Override
@@ -54,16 +81,26 @@ public class LogicManager implements Logic {
         commandResult = command.execute(model);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saver.requestSave();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(toSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveErrorListener(Consumer<String> saveErrorListener) {
+        requireNonNull(saveErrorListener);
+        this.saveErrorListener = saveErrorListener;
+    }
+
+    private static String toSaveErrorMessage(IOException ioe) {
+        return ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -74,6 +111,14 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public void filterPersonsByPrefix(List<String> prefixes) {
+        requireNonNull(prefixes);
+        model.updateFilteredPersonList(prefixes.isEmpty()
+                ? Model.PREDICATE_SHOW_ALL_PERSONS
+                : new NameOrIdStartsWithKeywordsPredicate(prefixes));
+    }
+
     @Override
     public ObservableList<Appointment> getUpcomingAppointmentList() {
         return model.getUpcomingAppointmentList();
@@ -84,11 +129,6 @@ public class LogicManager implements Logic {
         return model.getPastAppointmentList();
     }
 
-    @Override
-    public ObservableList<Appointment> getFilteredAppointmentList(IdentityNumber personId) {
-        return model.getFilteredAppointmentList(personId);
-    }
-
     @Override
     public ObservableList<Appointment> getViewedPersonUpcomingAppointmentList() {
         return model.getViewedPersonUpcomingAppointmentList();
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALCOHOLIC_RECORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOOD_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SMOKING_RECORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonFacetPredicate;
+
+/**
+ * Lists all persons in address book matching every given field condition.
+ * A field matches if it has any of the values given for it, and none of the values given for it as excluded.
+ * Value matching is case-insensitive.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String EXCLUDE_MARKER = "!";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons matching every given field "
+            + "(case-insensitive). A field matches if it has any of the values given for it; values starting with "
+            + EXCLUDE_MARKER + " must not match instead.\n"
+            + "Parameters: "
+            + "[" + PREFIX_BLOOD_TYPE + "BLOOD_TYPE]... "
+            + "[" + PREFIX_GENDER + "GENDER]... "
+            + "[" + PREFIX_SMOKING_RECORD + "SMOKING_RECORD]... "
+            + "[" + PREFIX_ALCOHOLIC_RECORD + "ALCOHOLIC_RECORD]... "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_AGE + "AGE, MIN_AGE-MAX_AGE or MIN_AGE+]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_BLOOD_TYPE + "O- "
+            + PREFIX_TAG + "urgent "
+            + PREFIX_SMOKING_RECORD + "heavy smoker "
+            + PREFIX_GENDER + EXCLUDE_MARKER + "F "
+            + PREFIX_AGE + "60+";
+
+    private final PersonFacetPredicate predicate;
+
+    public FilterCommand(PersonFacetPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand otherFilterCommand)) {
+            return false;
+        }
+
+        return predicate.equals(otherFilterCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -1,28 +1,46 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
+
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameOrIdContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name or id contains any of the argument keywords.
  * Keyword matching is case-insensitive.
+ * Alternatively, finds and lists all persons whose names are similar to a possibly misspelled name, most similar first,
+ * or all persons with any of the given allergies or taking any of the given medicines.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_PREFIX = "~";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names or id contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie A1234567E";
+            + "Example: " + COMMAND_WORD + " alice bob charlie A1234567E\n"
+            + "To find names similar to a possibly misspelled NAME, most similar first: "
+            + COMMAND_WORD + " " + FUZZY_PREFIX + "NAME\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_PREFIX + "bernise yu\n"
+            + "To find persons with any of the given allergies or taking any of the given medicines: "
+            + COMMAND_WORD + " [" + PREFIX_ALLERGY + "ALLERGY]... [" + PREFIX_MEDICINE + "MEDICINE]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ALLERGY + "penicillin " + PREFIX_MEDICINE + "metformin";
 
-    private final NameOrIdContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
 
-    public FindCommand(NameOrIdContainsKeywordsPredicate predicate) {
+    /**
+     * Creates a FindCommand that lists the persons satisfying {@code predicate}, such as a
+     * {@code NameOrIdContainsKeywordsPredicate} or a {@code NameSimilarToPredicate}.
+     */
+    public FindCommand(Predicate<Person> predicate) {
         this.predicate = predicate;
     }
 
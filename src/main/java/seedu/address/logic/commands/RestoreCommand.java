@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookBackups;
+import seedu.address.storage.AddressBookBackups.Backup;
+
+/**
+ * Restores the address book to one of its automatic backups, or lists the backups if none is given.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Restores all data in HealthNote to an automatic backup, identified by its backup number. "
+            + "Lists the backups if no backup number is given.\n"
+            + "Parameters: [BACKUP_NUMBER] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_SUCCESS = "HealthNote has been restored to backup %1$d, taken at %2$s.";
+    public static final String MESSAGE_LIST_BACKUPS = "Backups (restore one with '" + COMMAND_WORD
+            + " BACKUP_NUMBER'):\n%s";
+    public static final String MESSAGE_NO_BACKUPS = "There are no backups yet.";
+    public static final String MESSAGE_BACKUPS_UNAVAILABLE = "Backups are not available.";
+    public static final String MESSAGE_NO_SUCH_BACKUP = "There is no backup %d.";
+    public static final String MESSAGE_RESTORE_FAILED = "Could not read the backups due to the following error: %s";
+    public static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("d MMM uuuu HH:mm:ss");
+
+    private final AddressBookBackups backups;
+    private final Index backupNumber;
+
+    /**
+     * Creates a RestoreCommand to restore backup {@code backupNumber} from {@code backups}, or to list the backups
+     * if {@code backupNumber} is null. {@code backups} is null if backups are not available.
+     */
+    public RestoreCommand(AddressBookBackups backups, Index backupNumber) {
+        this.backups = backups;
+        this.backupNumber = backupNumber;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (backups == null) {
+            throw new CommandException(MESSAGE_BACKUPS_UNAVAILABLE);
+        }
+
+        List<Backup> backupList;
+        try {
+            backupList = backups.list();
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_RESTORE_FAILED, e.getMessage()), e);
+        }
+        if (backupNumber == null) {
+            return new CommandResult(listBackups(backupList));
+        }
+
+        Optional<Backup> backup = backupList.stream()
+                .filter(candidate -> candidate.number() == backupNumber.getOneBased())
+                .findFirst();
+        Optional<ReadOnlyAddressBook> restored = Optional.empty();
+        if (backup.isPresent()) {
+            try {
+                restored = backups.restore(backupNumber.getOneBased());
+            } catch (DataLoadingException e) {
+                throw new CommandException(String.format(MESSAGE_RESTORE_FAILED, e.getMessage()), e);
+            }
+        }
+        if (restored.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_SUCH_BACKUP, backupNumber.getOneBased()));
+        }
+
+        model.setAddressBook(restored.get());
+        model.setViewedPerson(null);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, backupNumber.getOneBased(),
+                backup.get().time().format(TIME_FORMAT)));
+    }
+
+    private static String listBackups(List<Backup> backupList) {
+        if (backupList.isEmpty()) {
+            return MESSAGE_NO_BACKUPS;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (Backup backup : backupList) {
+            lines.append(backup.number()).append(". ").append(backup.time().format(TIME_FORMAT)).append('\n');
+        }
+        return String.format(MESSAGE_LIST_BACKUPS, lines.toString().trim());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestoreCommand)) {
+            return false;
+        }
+
+        RestoreCommand otherRestoreCommand = (RestoreCommand) other;
+        return backups == otherRestoreCommand.backups
+                && Objects.equals(backupNumber, otherRestoreCommand.backupNumber);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("backupNumber", backupNumber)
+                .toString();
+    }
+}
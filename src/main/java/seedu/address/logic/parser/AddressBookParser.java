@@ -17,12 +17,15 @@ import seedu.address.logic.commands.DeletePastAppointmentCommand;
 import seedu.address.logic.commands.DeleteUpcomingAppointmentCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.ThemeCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.AddressBookBackups;
 
 /**
  * Parses user input.
@@ -35,6 +38,22 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final AddressBookBackups backups;
+
+    /**
+     * Creates a parser for an address book without backups.
+     */
+    public AddressBookParser() {
+        this(null);
+    }
+
+    /**
+     * Creates a parser for an address book whose backups are {@code backups}, or null if it has none.
+     */
+    public AddressBookParser(AddressBookBackups backups) {
+        this.backups = backups;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -73,6 +92,9 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FilterCommand.COMMAND_WORD:
+            return new FilterCommandParser().parse(arguments);
+
         case AddAppointmentCommand.COMMAND_WORD:
             return new AddAppointmentCommandParser().parse(arguments);
 
@@ -97,6 +119,9 @@ public class AddressBookParser {
         case ThemeCommand.COMMAND_WORD:
             return new ThemeCommandParser().parse(arguments);
 
+        case RestoreCommand.COMMAND_WORD:
+            return new RestoreCommandParser(backups).parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -21,6 +21,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_SMOKING_RECORD = new Prefix("sr\\");
     public static final Prefix PREFIX_PAST_MEDICAL_HISTORY = new Prefix("pmh\\");
     public static final Prefix PREFIX_MEDICINE = new Prefix("m\\");
+    public static final Prefix PREFIX_AGE = new Prefix("age\\");
     public static final Prefix PREFIX_APPOINTMENT_TIME = new Prefix("adt\\");
     public static final Prefix PREFIX_APPOINTMENT_NOTE = new Prefix("note\\");
 }
@@ -0,0 +1,145 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALCOHOLIC_RECORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOOD_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SMOKING_RECORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AlcoholicRecord;
+import seedu.address.model.person.BloodType;
+import seedu.address.model.person.FacetExpression;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.PersonFacetIndex.Facet;
+import seedu.address.model.person.PersonFacetPredicate;
+import seedu.address.model.person.SmokingRecord;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    public static final String MESSAGE_INVALID_AGE =
+            "Ages should be given as AGE, MIN_AGE-MAX_AGE or MIN_AGE+, with MIN_AGE not greater than MAX_AGE";
+
+    private static final Pattern AGE_FORMAT = Pattern.compile("(?<min>\\d{1,3})(?:(?<plus>\\+)|-(?<max>\\d{1,3}))?");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_BLOOD_TYPE, PREFIX_GENDER,
+                PREFIX_SMOKING_RECORD, PREFIX_ALCOHOLIC_RECORD, PREFIX_TAG, PREFIX_AGE);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        List<FacetExpression> conditions = new ArrayList<>();
+        addFacetConditions(conditions, Facet.BLOOD_TYPE, argMultimap.getAllValues(PREFIX_BLOOD_TYPE),
+                BloodType::isValidBloodType, BloodType.MESSAGE_CONSTRAINTS);
+        addFacetConditions(conditions, Facet.GENDER, argMultimap.getAllValues(PREFIX_GENDER),
+                Gender::isValidGender, Gender.MESSAGE_CONSTRAINTS);
+        addFacetConditions(conditions, Facet.SMOKING_RECORD, argMultimap.getAllValues(PREFIX_SMOKING_RECORD),
+                SmokingRecord::isValidSmokingRecord, SmokingRecord.MESSAGE_CONSTRAINTS);
+        addFacetConditions(conditions, Facet.ALCOHOLIC_RECORD, argMultimap.getAllValues(PREFIX_ALCOHOLIC_RECORD),
+                AlcoholicRecord::isValidAlcoholicRecord, AlcoholicRecord.MESSAGE_CONSTRAINTS);
+        addFacetConditions(conditions, Facet.TAG, argMultimap.getAllValues(PREFIX_TAG),
+                Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS);
+        addAgeConditions(conditions, argMultimap.getAllValues(PREFIX_AGE));
+
+        if (conditions.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+        return new FilterCommand(new PersonFacetPredicate(FacetExpression.and(conditions)));
+    }
+
+    /**
+     * Adds to {@code conditions} that {@code facet} has any of the included {@code values}, and none of the
+     * excluded ones.
+     * @throws ParseException if any of the values is not valid according to {@code isValid}
+     */
+    private static void addFacetConditions(List<FacetExpression> conditions, Facet facet, List<String> values,
+            Predicate<String> isValid, String messageConstraints) throws ParseException {
+        List<String> included = new ArrayList<>();
+        List<String> excluded = new ArrayList<>();
+        for (String value : values) {
+            boolean isExcluded = isExcluded(value);
+            String trimmedValue = withoutExcludeMarker(value);
+            if (!isValid.test(trimmedValue)) {
+                throw new ParseException(messageConstraints);
+            }
+            (isExcluded ? excluded : included).add(trimmedValue);
+        }
+
+        if (!included.isEmpty()) {
+            conditions.add(FacetExpression.hasAny(facet, included));
+        }
+        if (!excluded.isEmpty()) {
+            conditions.add(FacetExpression.not(FacetExpression.hasAny(facet, excluded)));
+        }
+    }
+
+    /**
+     * Adds to {@code conditions} that the person's age is in any of the included age ranges, and none of the
+     * excluded ones.
+     * @throws ParseException if any of the ages is not in a valid format
+     */
+    private static void addAgeConditions(List<FacetExpression> conditions, List<String> ages) throws ParseException {
+        List<FacetExpression> included = new ArrayList<>();
+        List<FacetExpression> excluded = new ArrayList<>();
+        for (String age : ages) {
+            (isExcluded(age) ? excluded : included).add(parseAgeRange(withoutExcludeMarker(age)));
+        }
+
+        if (!included.isEmpty()) {
+            conditions.add(FacetExpression.or(included));
+        }
+        if (!excluded.isEmpty()) {
+            conditions.add(FacetExpression.not(FacetExpression.or(excluded)));
+        }
+    }
+
+    /**
+     * Parses an age range given as {@code AGE}, {@code MIN_AGE-MAX_AGE} or {@code MIN_AGE+}.
+     * @throws ParseException if {@code ageRange} is not in one of these formats
+     */
+    private static FacetExpression parseAgeRange(String ageRange) throws ParseException {
+        Matcher matcher = AGE_FORMAT.matcher(ageRange);
+        if (!matcher.matches()) {
+            throw new ParseException(MESSAGE_INVALID_AGE);
+        }
+        int minAge = Integer.parseInt(matcher.group("min"));
+        if (matcher.group("plus") != null) {
+            return FacetExpression.ageAtLeast(minAge);
+        }
+        int maxAge = matcher.group("max") == null ? minAge : Integer.parseInt(matcher.group("max"));
+        if (minAge > maxAge) {
+            throw new ParseException(MESSAGE_INVALID_AGE);
+        }
+        return FacetExpression.ageBetween(minAge, maxAge);
+    }
+
+    private static boolean isExcluded(String value) {
+        return value.trim().startsWith(FilterCommand.EXCLUDE_MARKER);
+    }
+
+    private static String withoutExcludeMarker(String value) {
+        String trimmedValue = value.trim();
+        return isExcluded(trimmedValue)
+                ? trimmedValue.substring(FilterCommand.EXCLUDE_MARKER.length()).trim()
+                : trimmedValue;
+    }
+}
@@ -1,10 +1,19 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
+
 import java.util.Arrays;
+import java.util.Set;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Allergy;
+import seedu.address.model.person.HasAllergyOrMedicinePredicate;
+import seedu.address.model.person.Medicine;
 import seedu.address.model.person.NameOrIdContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -25,9 +34,43 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_FIND, FindCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.startsWith(FindCommand.FUZZY_PREFIX)) {
+            return parseFuzzy(trimmedArgs.substring(FindCommand.FUZZY_PREFIX.length()).trim());
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs, PREFIX_ALLERGY, PREFIX_MEDICINE);
+        if (argMultimap.getValue(PREFIX_ALLERGY).isPresent() || argMultimap.getValue(PREFIX_MEDICINE).isPresent()) {
+            return parseAllergiesAndMedicines(argMultimap);
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         return new FindCommand(new NameOrIdContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
+    /**
+     * Parses the {@code name} given after the fuzzy search prefix into a FindCommand for names similar to it.
+     * @throws ParseException if {@code name} is empty
+     */
+    private FindCommand parseFuzzy(String name) throws ParseException {
+        if (name.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FIND, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(new NameSimilarToPredicate(name));
+    }
+
+    /**
+     * Parses the allergies and medicines in {@code argMultimap} into a FindCommand for the persons with any of
+     * the allergies or taking any of the medicines.
+     * @throws ParseException if there is a preamble, or an allergy or medicine is blank
+     */
+    private FindCommand parseAllergiesAndMedicines(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        Set<Allergy> allergies = ParserUtil.parseAllergies(argMultimap.getAllValues(PREFIX_ALLERGY));
+        Set<Medicine> medicines = ParserUtil.parseMedicines(argMultimap.getAllValues(PREFIX_MEDICINE));
+        return new FindCommand(new HasAllergyOrMedicinePredicate(allergies, medicines));
+    }
+
 }
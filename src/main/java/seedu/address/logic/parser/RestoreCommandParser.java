@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.AddressBookBackups;
+
+/**
+ * Parses input arguments and creates a new RestoreCommand object
+ */
+public class RestoreCommandParser implements Parser<RestoreCommand> {
+
+    private final AddressBookBackups backups;
+
+    /**
+     * Creates a parser of commands that restore from {@code backups}, which is null if backups are not available.
+     */
+    public RestoreCommandParser(AddressBookBackups backups) {
+        this.backups = backups;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RestoreCommand
+     * and returns a RestoreCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public RestoreCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new RestoreCommand(backups, null);
+        }
+
+        try {
+            Index backupNumber = ParserUtil.parseIndex(trimmedArgs);
+            return new RestoreCommand(backups, backupNumber);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -2,13 +2,19 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -18,8 +24,12 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** The last version given to the contents of any address book. */
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final UniquePersonList persons;
     private final AppointmentList appointments;
+    private long version = lastVersion.incrementAndGet();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -31,6 +41,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         appointments = new AppointmentList();
+        // Every change to either list, however it is made, gives the contents a new version.
+        ListChangeListener<Object> versionBumper = change -> version = lastVersion.incrementAndGet();
+        persons.asUnmodifiableObservableList().addListener(versionBumper);
+        appointments.asUnmodifiableObservableList().addListener(versionBumper);
     }
 
     public AddressBook() {}
@@ -62,13 +76,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Resets the existing data of this {@code AddressBook} with {@code newData}, taking on its version.
+     * Data copied from another {@code AddressBook} is already known to be unique, so its lists and indexes
+     * are copied over directly instead of being validated again.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setAppointments(newData.getAppointmentList());
+        if (newData instanceof AddressBook otherAddressBook) {
+            persons.setPersons(otherAddressBook.persons);
+            appointments.setAppointments(otherAddressBook.appointments);
+        } else {
+            setPersons(newData.getPersonList());
+            setAppointments(newData.getAppointmentList());
+        }
+        version = newData.getVersion();
     }
 
     //// person/appointment-level operations
@@ -81,6 +103,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code identityNumber}, if one exists in the address book.
+     */
+    public Optional<Person> findPersonById(IdentityNumber identityNumber) {
+        requireNonNull(identityNumber);
+        return persons.findById(identityNumber);
+    }
+
+    /**
+     * Returns a predicate that agrees with {@code predicate} on the persons in the address book, answered from the
+     * indexes of the address book where possible.
+     */
+    public Predicate<Person> bindPersonPredicate(Predicate<Person> predicate) {
+        return persons.bind(predicate);
+    }
+
+    /**
+     * Returns the order of relevance of the persons in the address book that satisfy {@code predicate}, if it has one.
+     */
+    public Optional<Comparator<Person>> rankPersons(Predicate<Person> predicate) {
+        return persons.rank(predicate);
+    }
+
     /**
      * Returns true if an appointment with the same patientId and time as {@code appointment}
      * exists in the address book.
@@ -154,6 +199,28 @@ public class AddressBook implements ReadOnlyAddressBook {
         appointments.removeAll(appointmentsToRemove);
     }
 
+    /**
+     * Returns the appointments of the patient with the given {@code patientId}, in no particular order.
+     */
+    public List<Appointment> getAppointmentsOf(IdentityNumber patientId) {
+        return appointments.getAppointmentsOf(patientId);
+    }
+
+    /**
+     * Removes all appointments of the patient with the given {@code patientId} from the address book.
+     */
+    public void removeAppointmentsOf(IdentityNumber patientId) {
+        appointments.removeAllOf(patientId);
+    }
+
+    /**
+     * Moves all appointments of the patient with {@code oldPatientId} to the patient with {@code newPatientId}.
+     * None of the moved appointments may clash with an existing appointment of {@code newPatientId}.
+     */
+    public void reassignAppointments(IdentityNumber oldPatientId, IdentityNumber newPatientId) {
+        appointments.reassignAll(oldPatientId, newPatientId);
+    }
+
     //// util methods
 
     @Override
@@ -174,6 +241,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return appointments.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Keeps a {@code Model}'s upcoming and past appointment lists up to date as time passes, by calling
+ * {@link Model#updateAppointmentBoundary()} whenever the earliest upcoming appointment is due.
+ * <p>
+ * Updates are run through the given executor, so that they happen on the thread that owns the model.
+ * Updates are at most {@link #MAX_UPDATE_INTERVAL} apart, so that appointments added between updates,
+ * which may be earlier than the update that was scheduled, still move on time.
+ */
+public class AppointmentBoundaryScheduler {
+
+    public static final Duration MAX_UPDATE_INTERVAL = Duration.ofMinutes(1);
+
+    private static final Logger logger = LogsCenter.getLogger(AppointmentBoundaryScheduler.class);
+
+    private final Model model;
+    private final Clock clock;
+    private final Executor modelExecutor;
+    private final ScheduledExecutorService timer;
+
+    /**
+     * Creates a scheduler that updates {@code model} on {@code modelExecutor}, timing the updates with {@code clock}.
+     */
+    public AppointmentBoundaryScheduler(Model model, Clock clock, Executor modelExecutor) {
+        this(model, clock, modelExecutor, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "appointment-boundary-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a scheduler that waits for each update on {@code timer}.
+     */
+    AppointmentBoundaryScheduler(Model model, Clock clock, Executor modelExecutor, ScheduledExecutorService timer) {
+        requireAllNonNull(model, clock, modelExecutor, timer);
+        this.model = model;
+        this.clock = clock;
+        this.modelExecutor = modelExecutor;
+        this.timer = timer;
+    }
+
+    /**
+     * Updates the model immediately, then again whenever an update is due, until {@link #stop()} is called.
+     */
+    public void start() {
+        logger.info("Starting appointment boundary updates");
+        timer.execute(this::update);
+    }
+
+    /**
+     * Stops updating the model. Updates already handed to the model's executor may still run.
+     */
+    public void stop() {
+        timer.shutdownNow();
+    }
+
+    private void update() {
+        modelExecutor.execute(() -> scheduleNextUpdate(model.updateAppointmentBoundary()));
+    }
+
+    private void scheduleNextUpdate(Optional<LocalDateTime> nextBoundary) {
+        if (timer.isShutdown()) {
+            return;
+        }
+        Duration delay = nextBoundary
+                .map(boundary -> Duration.between(LocalDateTime.now(clock), boundary))
+                .filter(untilBoundary -> untilBoundary.compareTo(MAX_UPDATE_INTERVAL) < 0)
+                .orElse(MAX_UPDATE_INTERVAL);
+        timer.schedule(this::update, Math.max(delay.toMillis(), 0), TimeUnit.MILLISECONDS);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.beans.value.ObservableValue;
@@ -18,8 +20,6 @@ public interface Model {
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
     Predicate<Appointment> PREDICATE_SHOW_ALL_APPOINTMENTS = unused -> true;
 
-    /** Returns an unmodifiable view of the filtered appointment list for a specific person ID */
-    ObservableList<Appointment> getFilteredAppointmentList(IdentityNumber personId);
 
     /** Returns an unmodifiable view of the filtered appointment list */
     ObservableList<Appointment> getFilteredAppointmentList();
@@ -30,6 +30,14 @@ public interface Model {
     /** Returns an unmodifiable view of the past appointments list for the currently viewed person */
     ObservableList<Appointment> getViewedPersonPastAppointmentList();
 
+    /**
+     * Moves the appointments whose time has passed since the last update from the upcoming appointment lists to
+     * the past appointment lists.
+     *
+     * @return the time of the earliest upcoming appointment, which is when the next update is due, if there is one.
+     */
+    Optional<LocalDateTime> updateAppointmentBoundary();
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -73,6 +81,11 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person with the given {@code identityNumber}, if one exists in the address book.
+     */
+    Optional<Person> findPersonById(IdentityNumber identityNumber);
+
     /**
      * Returns true if an appointment with the same patientId and time as {@code appointment}
      * exists in the address book.
@@ -128,6 +141,8 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * If {@code predicate} is a {@code RankedPersonPredicate}, the list is ordered from the most to the least relevant
+     * person; otherwise, it is in address book order.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
@@ -4,22 +4,25 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
-import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentTimeline;
 import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.Person;
 
@@ -31,51 +34,45 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final Clock clock;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> rankedFilteredPersons;
     private final FilteredList<Appointment> filteredAppointments;
 
-    // Lists from the full AddressBook appointment list
-    private final SortedList<Appointment> sortedAllUpcomingAppointments;
-    private final SortedList<Appointment> sortedAllPastAppointments;
+    // Time-ordered appointments from the full AddressBook appointment list
+    private final AppointmentTimeline allAppointments = new AppointmentTimeline();
 
-    // Lists to hold appointments for the person currently being viewed
-    private final FilteredList<Appointment> viewedPersonAppointments;
-    private final ObservableList<Appointment> viewedPersonUpcomingAppointments;
-    private final ObservableList<Appointment> unmodifiableViewedPersonUpcomingAppointments;
-    private final ObservableList<Appointment> viewedPersonPastAppointments;
-    private final ObservableList<Appointment> unmodifiableViewedPersonPastAppointments;
+    // Time-ordered appointments for the person currently being viewed
+    private final AppointmentTimeline viewedPersonTimeline = new AppointmentTimeline();
 
     private final ObjectProperty<Person> viewedPerson = new SimpleObjectProperty<>();
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, telling upcoming appointments apart from
+     * past appointments with the system clock.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, telling upcoming appointments apart from
+     * past appointments with the given clock.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(addressBook, userPrefs, clock);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.clock = clock;
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        rankedFilteredPersons = new SortedList<>(filteredPersons);
         filteredAppointments = new FilteredList<>(this.addressBook.getAppointmentList());
 
-
-        viewedPersonAppointments = new FilteredList<>(this.addressBook.getAppointmentList());
-        viewedPersonUpcomingAppointments = new FilteredList<>(viewedPersonAppointments, Appointment::isAfterNow);
-        viewedPersonPastAppointments = new FilteredList<>(viewedPersonAppointments, Appointment::isBeforeNow);
-        unmodifiableViewedPersonUpcomingAppointments = FXCollections.unmodifiableObservableList(
-                new SortedList<>(viewedPersonUpcomingAppointments, Appointment::compareByDateTime));
-        unmodifiableViewedPersonPastAppointments = FXCollections.unmodifiableObservableList(
-                new SortedList<>(viewedPersonPastAppointments, Appointment::compareByDateTime));
-
-        FilteredList<Appointment> allUpcomingAppointments =
-                new FilteredList<>(this.addressBook.getAppointmentList(), Appointment::isAfterNow);
-        FilteredList<Appointment> allPastAppointments =
-                new FilteredList<>(this.addressBook.getAppointmentList(), Appointment::isBeforeNow);
-
-        sortedAllUpcomingAppointments = new SortedList<>(allUpcomingAppointments, Appointment::compareByDateTime);
-        sortedAllPastAppointments = new SortedList<>(allPastAppointments, Appointment::compareByDateTime);
+        allAppointments.setAll(this.addressBook.getAppointmentList(), LocalDateTime.now(clock));
+        this.addressBook.getAppointmentList().addListener(this::updateTimelines);
     }
 
     public ModelManager() {
@@ -135,6 +132,12 @@ public class ModelManager implements Model {
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findPersonById(IdentityNumber identityNumber) {
+        requireNonNull(identityNumber);
+        return addressBook.findPersonById(identityNumber);
+    }
+
     @Override
     public boolean hasAppointment(Appointment appointment) {
         requireNonNull(appointment);
@@ -144,12 +147,7 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
-        Predicate<Appointment> personAppointmentPredicate =
-                a -> a.getPatientId().equals(target.getIdentityNumber());
-        List<Appointment> toRemove = this.addressBook.getAppointmentList().stream()
-                .filter(personAppointmentPredicate)
-                .toList();
-        toRemove.forEach(addressBook::removeAppointment);
+        addressBook.removeAppointmentsOf(target.getIdentityNumber());
         logger.fine("Removed appointments associated with deleted person: " + target.getName());
     }
 
@@ -172,24 +170,7 @@ public class ModelManager implements Model {
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        if (!target.getIdentityNumber().equals(editedPerson.getIdentityNumber())) {
-            IdentityNumber oldId = target.getIdentityNumber();
-            IdentityNumber newId = editedPerson.getIdentityNumber();
-
-            List<Appointment> appointmentsToUpdate = addressBook.getAppointmentList().stream()
-                    .filter(appointment -> appointment.getPatientId().equals(oldId))
-                    .collect(Collectors.toList());
-
-            for (Appointment oldAppointment : appointmentsToUpdate) {
-                Appointment updatedAppointment = new Appointment(
-                        oldAppointment.getNotes(),
-                        oldAppointment.getDateTime(),
-                        newId
-                );
-
-                addressBook.setAppointment(oldAppointment, updatedAppointment);
-            }
-        }
+        addressBook.reassignAppointments(target.getIdentityNumber(), editedPerson.getIdentityNumber());
         addressBook.setPerson(target, editedPerson);
     }
 
@@ -207,13 +188,14 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return rankedFilteredPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setPredicate(addressBook.bindPersonPredicate(predicate));
+        rankedFilteredPersons.setComparator(addressBook.rankPersons(predicate).orElse(null));
     }
 
     //=========== Filtered Appointment List Accessors ==========================================================
@@ -235,19 +217,6 @@ public class ModelManager implements Model {
         return filteredAppointments;
     }
 
-    /**
-     * Returns a filtered list of appointments for a specific person ID.
-     * Sets the internal viewed person list to the returned filtered list.
-     * It filters directly from the source AddressBook list.
-     */
-    @Override
-    public ObservableList<Appointment> getFilteredAppointmentList(IdentityNumber personId) {
-        requireNonNull(personId);
-        Predicate<Appointment> personPredicate = appointment -> appointment.getPatientId().equals(personId);
-        viewedPersonAppointments.setPredicate(personPredicate);
-        return viewedPersonAppointments;
-    }
-
 
     //=========== Viewed Person Appointment List Accessors ===================================================
 
@@ -257,7 +226,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Appointment> getViewedPersonUpcomingAppointmentList() {
-        return unmodifiableViewedPersonUpcomingAppointments;
+        return viewedPersonTimeline.getUpcomingAppointments();
     }
 
     /**
@@ -266,26 +235,26 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Appointment> getViewedPersonPastAppointmentList() {
-        return unmodifiableViewedPersonPastAppointments;
+        return viewedPersonTimeline.getPastAppointments();
     }
 
 
     //=========== Upcoming/Past Appointment List Accessors ==================================================
 
     /**
-     * Returns a sorted list of ALL upcoming appointments.
+     * Returns a chronologically sorted list of ALL upcoming appointments.
      */
     @Override
     public ObservableList<Appointment> getUpcomingAppointmentList() {
-        return sortedAllUpcomingAppointments;
+        return allAppointments.getUpcomingAppointments();
     }
 
     /**
-     * Returns a sorted list of ALL past appointments.
+     * Returns a chronologically sorted list of ALL past appointments.
      */
     @Override
     public ObservableList<Appointment> getPastAppointmentList() {
-        return sortedAllPastAppointments;
+        return allAppointments.getPastAppointments();
     }
 
     //=========== Viewed Person Setters And Accessors ==================================================
@@ -304,11 +273,61 @@ public class ModelManager implements Model {
     public void setViewedPerson(Person person) {
         logger.fine("Setting viewed person: " + person);
         viewedPerson.setValue(person);
-        if (person != null) {
-            getFilteredAppointmentList(person.getIdentityNumber());
+        List<Appointment> appointments = person == null
+                ? List.of()
+                : addressBook.getAppointmentsOf(person.getIdentityNumber());
+        LocalDateTime now = LocalDateTime.now(clock);
+        allAppointments.advanceTo(now);
+        viewedPersonTimeline.setAll(appointments, now);
+    }
+
+    @Override
+    public Optional<LocalDateTime> updateAppointmentBoundary() {
+        advanceTimelines(LocalDateTime.now(clock));
+        return allAppointments.getNextBoundary();
+    }
+
+    /**
+     * Moves the appointments that are no longer after {@code now} from the upcoming to the past appointment lists.
+     */
+    private void advanceTimelines(LocalDateTime now) {
+        int moved = allAppointments.advanceTo(now);
+        viewedPersonTimeline.advanceTo(now);
+        if (moved > 0) {
+            logger.fine("Moved " + moved + " appointments from upcoming to past at " + now);
         }
     }
 
+    /**
+     * Applies the appointments added to and removed from the address book in {@code change} to the timelines,
+     * reading the clock once for the whole change.
+     */
+    private void updateTimelines(ListChangeListener.Change<? extends Appointment> change) {
+        advanceTimelines(LocalDateTime.now(clock));
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (Appointment removed : change.getRemoved()) {
+                allAppointments.remove(removed);
+                if (isOfViewedPerson(removed)) {
+                    viewedPersonTimeline.remove(removed);
+                }
+            }
+            for (Appointment added : change.getAddedSubList()) {
+                allAppointments.add(added);
+                if (isOfViewedPerson(added)) {
+                    viewedPersonTimeline.add(added);
+                }
+            }
+        }
+    }
+
+    private boolean isOfViewedPerson(Appointment appointment) {
+        Person person = viewedPerson.get();
+        return person != null && appointment.getPatientId().equals(person.getIdentityNumber());
+    }
+
     //=========== Equals ====================================================================================
 
     @Override
@@ -327,7 +346,10 @@ public class ModelManager implements Model {
                 && userPrefs.equals(otherModelManager.userPrefs)
                 && filteredPersons.equals(otherModelManager.filteredPersons)
                 && filteredAppointments.equals(otherModelManager.filteredAppointments)
-                && viewedPersonAppointments.equals(otherModelManager.viewedPersonAppointments)
+                && viewedPersonTimeline.getUpcomingAppointments()
+                        .equals(otherModelManager.viewedPersonTimeline.getUpcomingAppointments())
+                && viewedPersonTimeline.getPastAppointments()
+                        .equals(otherModelManager.viewedPersonTimeline.getPastAppointments())
                 && Objects.equals(viewedPerson.get(), otherModelManager.viewedPerson.get());
     }
 }
@@ -21,4 +21,11 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Appointment> getAppointmentList();
 
+    /**
+     * Returns the version of the contents of this address book. The version changes whenever its persons or
+     * appointments change, and no two different contents of any address books share a version, so an address book
+     * with the same version as one saved earlier has not changed since.
+     */
+    long getVersion();
+
 }
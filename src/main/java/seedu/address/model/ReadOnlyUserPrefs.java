@@ -13,4 +13,43 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book file should be indented for reading, rather than written compactly.
+     */
+    boolean isAddressBookPrettyPrinted();
+
+    /**
+     * Returns true if changes to the address book should be appended to a journal next to the address book file,
+     * rather than rewriting the whole file.
+     */
+    boolean isAddressBookJournaled();
+
+    /**
+     * Returns true if the address book file should be written in a compact binary format, rather than as JSON.
+     */
+    boolean isAddressBookBinary();
+
+    /**
+     * Returns true if the address book file, and its journal, should be read by mapping them into memory, rather than
+     * copying them through buffers.
+     */
+    boolean isAddressBookMemoryMapped();
+
+    /**
+     * Returns true if the address book should be saved as separate files of persons and of each month's appointments,
+     * so that only the files that changed are rewritten.
+     */
+    boolean isAddressBookSegmented();
+
+    /**
+     * Returns true if the past medical history of each patient in a binary address book file should only be read from
+     * the file when the patient is viewed or edited.
+     */
+    boolean isAddressBookLazilyLoaded();
+
+    /**
+     * Returns the number of minutes between backups of the address book, or 0 or less if it should not be backed up.
+     */
+    int getAddressBookBackupIntervalMinutes();
+
 }
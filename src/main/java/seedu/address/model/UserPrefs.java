@@ -15,6 +15,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "healthnote.json");
+    private boolean addressBookPrettyPrinted = true;
+    private boolean addressBookJournaled = false;
+    private boolean addressBookBinary = false;
+    private boolean addressBookMemoryMapped = false;
+    private boolean addressBookSegmented = false;
+    private boolean addressBookLazilyLoaded = false;
+    private int addressBookBackupIntervalMinutes = 0;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookPrettyPrinted(newUserPrefs.isAddressBookPrettyPrinted());
+        setAddressBookJournaled(newUserPrefs.isAddressBookJournaled());
+        setAddressBookBinary(newUserPrefs.isAddressBookBinary());
+        setAddressBookMemoryMapped(newUserPrefs.isAddressBookMemoryMapped());
+        setAddressBookSegmented(newUserPrefs.isAddressBookSegmented());
+        setAddressBookLazilyLoaded(newUserPrefs.isAddressBookLazilyLoaded());
+        setAddressBookBackupIntervalMinutes(newUserPrefs.getAddressBookBackupIntervalMinutes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +70,62 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isAddressBookPrettyPrinted() {
+        return addressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean addressBookPrettyPrinted) {
+        this.addressBookPrettyPrinted = addressBookPrettyPrinted;
+    }
+
+    public boolean isAddressBookJournaled() {
+        return addressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean addressBookJournaled) {
+        this.addressBookJournaled = addressBookJournaled;
+    }
+
+    public boolean isAddressBookBinary() {
+        return addressBookBinary;
+    }
+
+    public void setAddressBookBinary(boolean addressBookBinary) {
+        this.addressBookBinary = addressBookBinary;
+    }
+
+    public boolean isAddressBookMemoryMapped() {
+        return addressBookMemoryMapped;
+    }
+
+    public void setAddressBookMemoryMapped(boolean addressBookMemoryMapped) {
+        this.addressBookMemoryMapped = addressBookMemoryMapped;
+    }
+
+    public boolean isAddressBookSegmented() {
+        return addressBookSegmented;
+    }
+
+    public void setAddressBookSegmented(boolean addressBookSegmented) {
+        this.addressBookSegmented = addressBookSegmented;
+    }
+
+    public boolean isAddressBookLazilyLoaded() {
+        return addressBookLazilyLoaded;
+    }
+
+    public void setAddressBookLazilyLoaded(boolean addressBookLazilyLoaded) {
+        this.addressBookLazilyLoaded = addressBookLazilyLoaded;
+    }
+
+    public int getAddressBookBackupIntervalMinutes() {
+        return addressBookBackupIntervalMinutes;
+    }
+
+    public void setAddressBookBackupIntervalMinutes(int addressBookBackupIntervalMinutes) {
+        this.addressBookBackupIntervalMinutes = addressBookBackupIntervalMinutes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +139,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookPrettyPrinted == otherUserPrefs.addressBookPrettyPrinted
+                && addressBookJournaled == otherUserPrefs.addressBookJournaled
+                && addressBookBinary == otherUserPrefs.addressBookBinary
+                && addressBookMemoryMapped == otherUserPrefs.addressBookMemoryMapped
+                && addressBookSegmented == otherUserPrefs.addressBookSegmented
+                && addressBookLazilyLoaded == otherUserPrefs.addressBookLazilyLoaded
+                && addressBookBackupIntervalMinutes == otherUserPrefs.addressBookBackupIntervalMinutes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookPrettyPrinted, addressBookJournaled,
+                addressBookBinary, addressBookMemoryMapped, addressBookSegmented, addressBookLazilyLoaded,
+                addressBookBackupIntervalMinutes);
     }
 
     @Override
@@ -82,6 +161,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file pretty printed : " + addressBookPrettyPrinted);
+        sb.append("\nLocal data file journaled : " + addressBookJournaled);
+        sb.append("\nLocal data file binary : " + addressBookBinary);
+        sb.append("\nLocal data file memory mapped : " + addressBookMemoryMapped);
+        sb.append("\nLocal data file segmented : " + addressBookSegmented);
+        sb.append("\nLocal data file lazily loaded : " + addressBookLazilyLoaded);
+        sb.append("\nLocal data file backup interval (minutes) : " + addressBookBackupIntervalMinutes);
         return sb.toString();
     }
 
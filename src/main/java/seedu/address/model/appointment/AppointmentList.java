@@ -2,14 +2,20 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.BatchObservableList;
 
 
 /**
@@ -21,22 +27,28 @@ import seedu.address.model.person.Person;
  * with exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * The position of every appointment in the backing list is indexed by its patient ID and time, so duplicate
+ * checks, replacements and removals do not need to scan the list. Appointments are also grouped by patient, so
+ * that all of a patient's appointments can be removed or reassigned as one change to the list.
  *
  * @see Person#isSamePerson(Person)
  */
 public class AppointmentList implements Iterable<Appointment> {
 
     private Person patient;
-    private final ObservableList<Appointment> appointmentList = FXCollections.observableArrayList();
+    private final BatchObservableList<Appointment> appointmentList = new BatchObservableList<>();
     private final ObservableList<Appointment> unmodifiableAppointmentList =
             FXCollections.unmodifiableObservableList(appointmentList);
+    private final Map<Key, Integer> positions = new HashMap<>();
+    private final Map<IdentityNumber, List<Appointment>> appointmentsByPatient = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return appointmentList.stream().anyMatch(toCheck::isSameAppointment);
+        return positions.containsKey(Key.of(toCheck));
     }
 
     /**
@@ -48,9 +60,19 @@ public class AppointmentList implements Iterable<Appointment> {
         if (contains(toAdd)) {
             throw new DuplicateAppointmentException();
         }
+        positions.put(Key.of(toAdd), appointmentList.size());
+        addToPatient(toAdd);
         appointmentList.add(toAdd);
     }
 
+    /**
+     * Returns the appointments of the patient with the given {@code patientId}, in no particular order.
+     */
+    public List<Appointment> getAppointmentsOf(IdentityNumber patientId) {
+        requireNonNull(patientId);
+        return List.copyOf(appointmentsByPatient.getOrDefault(patientId, List.of()));
+    }
+
     /**
      * Replaces the appointment {@code target} in the list with {@code editedAppointment}.
      * {@code target} must exist in the list.
@@ -59,7 +81,7 @@ public class AppointmentList implements Iterable<Appointment> {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        int index = appointmentList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new AppointmentNotFoundException();
         }
@@ -68,6 +90,10 @@ public class AppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
 
+        positions.remove(Key.of(target));
+        positions.put(Key.of(editedAppointment), index);
+        removeFromPatient(target);
+        addToPatient(editedAppointment);
         appointmentList.set(index, editedAppointment);
     }
 
@@ -77,9 +103,15 @@ public class AppointmentList implements Iterable<Appointment> {
      */
     public void remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        if (!appointmentList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new AppointmentNotFoundException();
         }
+
+        positions.remove(Key.of(toRemove));
+        removeFromPatient(toRemove);
+        appointmentList.remove(index);
+        reindexFrom(index);
     }
 
     /**
@@ -88,27 +120,98 @@ public class AppointmentList implements Iterable<Appointment> {
      */
     public void removeAll(Appointment... toRemove) {
         requireNonNull(toRemove);
-        if (!appointmentList.removeAll(toRemove)) {
+        List<Appointment> found = Arrays.stream(toRemove)
+                .filter(appointment -> indexOf(appointment) != -1)
+                .distinct()
+                .toList();
+        if (found.isEmpty()) {
             throw new AppointmentNotFoundException();
         }
+
+        found.forEach(this::removeFromPatient);
+        removeIndexed(found);
+    }
+
+    /**
+     * Removes all appointments of the patient with the given {@code patientId} as a single change to the list.
+     * Does nothing if the patient has no appointments.
+     */
+    public void removeAllOf(IdentityNumber patientId) {
+        requireNonNull(patientId);
+        List<Appointment> toRemove = appointmentsByPatient.remove(patientId);
+        if (toRemove == null) {
+            return;
+        }
+
+        removeIndexed(toRemove);
+    }
+
+    /**
+     * Moves all appointments of the patient with {@code oldPatientId} to {@code newPatientId}, keeping their
+     * times and notes, as a single change to the list.
+     * None of the moved appointments may clash with an existing appointment of {@code newPatientId}.
+     */
+    public void reassignAll(IdentityNumber oldPatientId, IdentityNumber newPatientId) {
+        requireAllNonNull(oldPatientId, newPatientId);
+        List<Appointment> toReassign = appointmentsByPatient.get(oldPatientId);
+        if (toReassign == null || oldPatientId.equals(newPatientId)) {
+            return;
+        }
+
+        List<Appointment> reassigned = toReassign.stream()
+                .map(appointment -> new Appointment(appointment.getNotes(), appointment.getDateTime(), newPatientId))
+                .toList();
+        List<Appointment> clashes = reassigned.stream().filter(this::contains).toList();
+        if (!clashes.isEmpty()) {
+            throw new DuplicateAppointmentException(clashes);
+        }
+
+        appointmentList.batch(() -> {
+            for (int i = 0; i < toReassign.size(); i++) {
+                int index = positions.remove(Key.of(toReassign.get(i)));
+                positions.put(Key.of(reassigned.get(i)), index);
+                appointmentList.set(index, reassigned.get(i));
+            }
+        });
+        appointmentsByPatient.remove(oldPatientId);
+        appointmentsByPatient.computeIfAbsent(newPatientId, unused -> new ArrayList<>()).addAll(reassigned);
     }
 
     public void setAppointments(AppointmentList replacement) {
         requireNonNull(replacement);
         appointmentList.setAll(replacement.appointmentList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        appointmentsByPatient.clear();
+        replacement.appointmentsByPatient.forEach((patientId, appointments) ->
+                appointmentsByPatient.put(patientId, new ArrayList<>(appointments)));
     }
 
     /**
-     * Replaces the contents of this list with {@code appointments}.
+     * Replaces the contents of this list with {@code appointments}, building the index in the same pass.
      * {@code appointments} must not contain duplicate appointments.
+     *
+     * @throws DuplicateAppointmentException listing every clashing appointment if {@code appointments} is not unique.
      */
     public void setAppointments(List<Appointment> appointments) {
         requireAllNonNull(appointments);
-        if (!appointmentsAreUnique(appointments)) {
-            throw new DuplicateAppointmentException();
+        Map<Key, Integer> newPositions = new HashMap<>();
+        List<Appointment> duplicates = new ArrayList<>();
+        for (int i = 0; i < appointments.size(); i++) {
+            Appointment appointment = appointments.get(i);
+            if (newPositions.putIfAbsent(Key.of(appointment), i) != null) {
+                duplicates.add(appointment);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateAppointmentException(duplicates);
         }
 
         appointmentList.setAll(appointments);
+        positions.clear();
+        positions.putAll(newPositions);
+        appointmentsByPatient.clear();
+        appointments.forEach(this::addToPatient);
     }
 
     /**
@@ -148,16 +251,60 @@ public class AppointmentList implements Iterable<Appointment> {
     }
 
     /**
-     * Returns true if {@code appointments} contains only unique appointments.
+     * Returns the position of an appointment equal to {@code appointment} in the backing list, or -1 if there is none.
+     */
+    private int indexOf(Appointment appointment) {
+        Integer index = positions.get(Key.of(appointment));
+        if (index == null || !appointmentList.get(index).equals(appointment)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Re-records the positions of all appointments from {@code start} to the end of the backing list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < appointmentList.size(); i++) {
+            positions.put(Key.of(appointmentList.get(i)), i);
+        }
+    }
+
+    /**
+     * Removes {@code toRemove}, which must all be in the list, from the backing list and the position index as a
+     * single change to the list. The per-patient index must be updated by the caller.
      */
-    private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).isSameAppointment(appointments.get(j))) {
-                    return false;
-                }
+    private void removeIndexed(List<Appointment> toRemove) {
+        int[] indices = toRemove.stream()
+                .mapToInt(appointment -> positions.remove(Key.of(appointment)))
+                .sorted()
+                .toArray();
+        appointmentList.batch(() -> {
+            for (int i = indices.length - 1; i >= 0; i--) {
+                appointmentList.remove(indices[i]);
             }
+        });
+        reindexFrom(indices[0]);
+    }
+
+    private void addToPatient(Appointment appointment) {
+        appointmentsByPatient.computeIfAbsent(appointment.getPatientId(), unused -> new ArrayList<>()).add(appointment);
+    }
+
+    private void removeFromPatient(Appointment appointment) {
+        List<Appointment> appointments = appointmentsByPatient.get(appointment.getPatientId());
+        appointments.remove(appointment);
+        if (appointments.isEmpty()) {
+            appointmentsByPatient.remove(appointment.getPatientId());
+        }
+    }
+
+    /**
+     * The identity of an appointment, as compared by {@link Appointment#isSameAppointment(Appointment)}.
+     */
+    private record Key(IdentityNumber patientId, AppointmentTime dateTime) {
+        static Key of(Appointment appointment) {
+            return new Key(appointment.getPatientId(), appointment.getDateTime());
         }
-        return true;
     }
 }
@@ -0,0 +1,203 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A time-ordered store of appointments, split into upcoming and past appointments around a boundary in time.
+ * <p>
+ * Appointments are kept in a {@code NavigableMap} keyed by their date and time, so range queries take
+ * O(log n + k) time. The upcoming and past lists are kept sorted as appointments are added and removed, and each
+ * addition or removal is reported to their listeners as a change to a single element, instead of re-filtering and
+ * re-sorting every appointment.
+ * <p>
+ * The boundary only moves forward, through {@link #advanceTo(LocalDateTime)}. Since both lists are sorted, the
+ * appointments it passes are always at the front of the upcoming list, so advancing it moves only those appointments.
+ */
+public class AppointmentTimeline {
+
+    /**
+     * Orders appointments by date and time, and appointments at the same time by patient ID.
+     * Consistent with {@link Appointment#isSameAppointment(Appointment)}.
+     */
+    public static final Comparator<Appointment> CHRONOLOGICAL_ORDER =
+            Comparator.comparing((Appointment appointment) -> appointment.getDateTime().getDateTime())
+                    .thenComparing(appointment -> appointment.getPatientId().identityNumber);
+
+    private final NavigableMap<LocalDateTime, List<Appointment>> appointmentsByTime = new TreeMap<>();
+    private final ObservableList<Appointment> upcomingAppointments = FXCollections.observableArrayList();
+    private final ObservableList<Appointment> unmodifiableUpcomingAppointments =
+            FXCollections.unmodifiableObservableList(upcomingAppointments);
+    private final ObservableList<Appointment> pastAppointments = FXCollections.observableArrayList();
+    private final ObservableList<Appointment> unmodifiablePastAppointments =
+            FXCollections.unmodifiableObservableList(pastAppointments);
+    private LocalDateTime boundary = LocalDateTime.MIN;
+
+    /**
+     * Adds {@code toAdd} to the timeline, as an upcoming appointment if it is after the boundary
+     * or as a past appointment otherwise.
+     * An appointment that is the same appointment as {@code toAdd} must not already be in the timeline.
+     */
+    public void add(Appointment toAdd) {
+        requireNonNull(toAdd);
+        insertSorted(appointmentsByTime.computeIfAbsent(timeOf(toAdd), unused -> new ArrayList<>()), toAdd);
+        insertSorted(toAdd.getDateTime().isAfter(boundary) ? upcomingAppointments : pastAppointments, toAdd);
+    }
+
+    /**
+     * Removes the appointment that is the same appointment as {@code toRemove} from the timeline, if present.
+     */
+    public void remove(Appointment toRemove) {
+        requireNonNull(toRemove);
+        List<Appointment> sameTime = appointmentsByTime.get(timeOf(toRemove));
+        if (sameTime == null || !removeSorted(sameTime, toRemove)) {
+            return;
+        }
+        if (sameTime.isEmpty()) {
+            appointmentsByTime.remove(timeOf(toRemove));
+        }
+
+        if (!removeSorted(upcomingAppointments, toRemove)) {
+            removeSorted(pastAppointments, toRemove);
+        }
+    }
+
+    /**
+     * Replaces the contents of the timeline with {@code replacement}, split around {@code now},
+     * which becomes the new boundary.
+     * {@code replacement} must not contain two appointments that are the same appointment.
+     */
+    public void setAll(Collection<Appointment> replacement, LocalDateTime now) {
+        requireAllNonNull(replacement, now);
+        List<Appointment> sorted = new ArrayList<>(replacement);
+        sorted.sort(CHRONOLOGICAL_ORDER);
+
+        appointmentsByTime.clear();
+        sorted.forEach(appointment ->
+                appointmentsByTime.computeIfAbsent(timeOf(appointment), unused -> new ArrayList<>()).add(appointment));
+        int split = indexOfFirstAfter(sorted, now);
+        boundary = now;
+        pastAppointments.setAll(sorted.subList(0, split));
+        upcomingAppointments.setAll(sorted.subList(split, sorted.size()));
+    }
+
+    /**
+     * Moves the boundary forward to {@code now}, moving the upcoming appointments that are no longer after it to
+     * the past appointments. Takes time proportional to the number of appointments moved.
+     * Does nothing if {@code now} is not after the current boundary.
+     *
+     * @return the number of appointments moved.
+     */
+    public int advanceTo(LocalDateTime now) {
+        requireNonNull(now);
+        if (!now.isAfter(boundary)) {
+            return 0;
+        }
+        boundary = now;
+
+        int crossed = indexOfFirstAfter(upcomingAppointments, now);
+        if (crossed == 0) {
+            return 0;
+        }
+        List<Appointment> passed = List.copyOf(upcomingAppointments.subList(0, crossed));
+        upcomingAppointments.remove(0, crossed);
+        pastAppointments.addAll(passed);
+        return crossed;
+    }
+
+    /**
+     * Returns the time of the earliest upcoming appointment, which is the next time that the boundary must be
+     * advanced past for an appointment to move, if there is an upcoming appointment.
+     */
+    public Optional<LocalDateTime> getNextBoundary() {
+        return upcomingAppointments.isEmpty()
+                ? Optional.empty()
+                : Optional.of(timeOf(upcomingAppointments.get(0)));
+    }
+
+    /**
+     * Returns the appointments from {@code from} to {@code to}, both inclusive, in chronological order.
+     */
+    public List<Appointment> getAppointmentsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        List<Appointment> inRange = new ArrayList<>();
+        appointmentsByTime.subMap(from, true, to, true).values().forEach(inRange::addAll);
+        return inRange;
+    }
+
+    /**
+     * Returns an unmodifiable view of the appointments after the time they were split around,
+     * in chronological order.
+     */
+    public ObservableList<Appointment> getUpcomingAppointments() {
+        return unmodifiableUpcomingAppointments;
+    }
+
+    /**
+     * Returns an unmodifiable view of the appointments at or before the time they were split around,
+     * in chronological order.
+     */
+    public ObservableList<Appointment> getPastAppointments() {
+        return unmodifiablePastAppointments;
+    }
+
+    private static LocalDateTime timeOf(Appointment appointment) {
+        return appointment.getDateTime().getDateTime();
+    }
+
+    /**
+     * Returns the index of the first appointment in {@code sortedList}, which is in chronological order,
+     * that is after {@code time}, or the size of the list if there is none.
+     */
+    private static int indexOfFirstAfter(List<Appointment> sortedList, LocalDateTime time) {
+        int low = 0;
+        int high = sortedList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedList.get(mid).getDateTime().isAfter(time)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Inserts {@code toInsert} into {@code sortedList}, keeping it in chronological order.
+     */
+    private static void insertSorted(List<Appointment> sortedList, Appointment toInsert) {
+        int index = Collections.binarySearch(sortedList, toInsert, CHRONOLOGICAL_ORDER);
+        assert index < 0 : "Appointment is already in the timeline";
+        sortedList.add(-index - 1, toInsert);
+    }
+
+    /**
+     * Removes the same appointment as {@code toRemove} from {@code sortedList}, which is in chronological order.
+     * Returns true if an appointment was removed.
+     */
+    private static boolean removeSorted(List<Appointment> sortedList, Appointment toRemove) {
+        int index = Collections.binarySearch(sortedList, toRemove, CHRONOLOGICAL_ORDER);
+        if (index < 0) {
+            return false;
+        }
+        sortedList.remove(index);
+        return true;
+    }
+}
@@ -1,12 +1,38 @@
 package seedu.address.model.appointment.exceptions;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.appointment.Appointment;
+
 /**
  * Signals that the operation will result in duplicate Appointment (Appointments
  * are considered duplicates if they have the same patient and time).
  */
 public class DuplicateAppointmentException extends RuntimeException {
+
+    private final List<Appointment> duplicates;
+
     public DuplicateAppointmentException() {
         super("Operation would result in duplicate appointments");
+        this.duplicates = List.of();
     }
-}
 
+    /**
+     * Creates an exception reporting every appointment in {@code duplicates} as clashing with an earlier one.
+     */
+    public DuplicateAppointmentException(Collection<Appointment> duplicates) {
+        super("Operation would result in duplicate appointments: " + duplicates.stream()
+                .map(appointment -> appointment.getPatientId() + " at " + appointment.getDateTime())
+                .collect(Collectors.joining(", ")));
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the appointments that clash with an earlier appointment, or an empty list if they were not collected.
+     */
+    public List<Appointment> getDuplicates() {
+        return duplicates;
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.PersonFacetIndex.Facet;
+
+/**
+ * A boolean combination of conditions on the categorical fields and age of persons, which can be tested against a
+ * single person or evaluated over all the persons in a {@code PersonFacetIndex} at once.
+ */
+public interface FacetExpression {
+
+    /**
+     * Returns true if {@code person} satisfies this expression on the date {@code today}.
+     */
+    boolean test(Person person, LocalDate today);
+
+    /**
+     * Returns a bitmap of the persons in {@code index} that satisfy this expression on the date {@code today}.
+     * The bitmap may be modified by the caller.
+     */
+    BitSet evaluate(PersonFacetIndex index, LocalDate today);
+
+    /**
+     * Returns an expression that is true for the persons with any of {@code values} in {@code facet}, ignoring case.
+     */
+    static FacetExpression hasAny(Facet facet, Collection<String> values) {
+        requireNonNull(facet);
+        return new HasAny(facet, values.stream().map(PersonFacetIndex::normalize).collect(Collectors.toSet()));
+    }
+
+    /**
+     * Returns an expression that is true for the persons who are at least {@code age} years old.
+     */
+    static FacetExpression ageAtLeast(int age) {
+        return new AgeAtLeast(age);
+    }
+
+    /**
+     * Returns an expression that is true for the persons who are between {@code minAge} and {@code maxAge} years
+     * old, inclusive.
+     */
+    static FacetExpression ageBetween(int minAge, int maxAge) {
+        return and(List.of(ageAtLeast(minAge), not(ageAtLeast(maxAge + 1))));
+    }
+
+    /**
+     * Returns an expression that is true when all of {@code operands} are true.
+     */
+    static FacetExpression and(List<FacetExpression> operands) {
+        return operands.size() == 1 ? operands.get(0) : new And(List.copyOf(operands));
+    }
+
+    /**
+     * Returns an expression that is true when any of {@code operands} is true.
+     */
+    static FacetExpression or(List<FacetExpression> operands) {
+        return operands.size() == 1 ? operands.get(0) : new Or(List.copyOf(operands));
+    }
+
+    /**
+     * Returns an expression that is true when {@code operand} is false.
+     */
+    static FacetExpression not(FacetExpression operand) {
+        requireNonNull(operand);
+        return new Not(operand);
+    }
+
+    /**
+     * True for the persons with any of the given lower-cased values in a field.
+     */
+    record HasAny(Facet facet, Set<String> values) implements FacetExpression {
+        @Override
+        public boolean test(Person person, LocalDate today) {
+            return facet.valuesOf(person).stream().anyMatch(values::contains);
+        }
+
+        @Override
+        public BitSet evaluate(PersonFacetIndex index, LocalDate today) {
+            return index.withAny(facet, values);
+        }
+    }
+
+    /**
+     * True for the persons who are at least a number of years old.
+     */
+    record AgeAtLeast(int age) implements FacetExpression {
+        @Override
+        public boolean test(Person person, LocalDate today) {
+            return !person.getDateOfBirth().dateOfBirth.isAfter(today.minusYears(age));
+        }
+
+        @Override
+        public BitSet evaluate(PersonFacetIndex index, LocalDate today) {
+            return index.bornOnOrBefore(today.minusYears(age));
+        }
+    }
+
+    /**
+     * True when all of its operands are true.
+     */
+    record And(List<FacetExpression> operands) implements FacetExpression {
+        @Override
+        public boolean test(Person person, LocalDate today) {
+            return operands.stream().allMatch(operand -> operand.test(person, today));
+        }
+
+        @Override
+        public BitSet evaluate(PersonFacetIndex index, LocalDate today) {
+            BitSet result = index.all();
+            for (FacetExpression operand : operands) {
+                result.and(operand.evaluate(index, today));
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * True when any of its operands is true.
+     */
+    record Or(List<FacetExpression> operands) implements FacetExpression {
+        @Override
+        public boolean test(Person person, LocalDate today) {
+            return operands.stream().anyMatch(operand -> operand.test(person, today));
+        }
+
+        @Override
+        public BitSet evaluate(PersonFacetIndex index, LocalDate today) {
+            BitSet result = new BitSet();
+            for (FacetExpression operand : operands) {
+                result.or(operand.evaluate(index, today));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * True when its operand is false.
+     */
+    record Not(FacetExpression operand) implements FacetExpression {
+        @Override
+        public boolean test(Person person, LocalDate today) {
+            return !operand.test(person, today);
+        }
+
+        @Override
+        public BitSet evaluate(PersonFacetIndex index, LocalDate today) {
+            BitSet result = index.all();
+            result.andNot(operand.evaluate(index, today));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} has any of the given allergies or takes any of the given medicines, ignoring case.
+ * <p>
+ * When filtering a {@code UniquePersonList}, the matches are looked up in the list's allergy and medicine indexes
+ * instead, in time proportional to the number of matches.
+ */
+public class HasAllergyOrMedicinePredicate implements IndexedPersonPredicate {
+    private final Set<Allergy> allergies;
+    private final Set<Medicine> medicines;
+    private final Set<String> normalizedAllergyNames;
+    private final Set<String> normalizedMedicineNames;
+
+    /**
+     * Creates a predicate for the persons with any of {@code allergies} or taking any of {@code medicines}.
+     */
+    public HasAllergyOrMedicinePredicate(Set<Allergy> allergies, Set<Medicine> medicines) {
+        this.allergies = allergies;
+        this.medicines = medicines;
+        this.normalizedAllergyNames = allergies.stream()
+                .map(allergy -> PersonTokenIndex.normalize(allergy.allergyName))
+                .collect(Collectors.toSet());
+        this.normalizedMedicineNames = medicines.stream()
+                .map(medicine -> PersonTokenIndex.normalize(medicine.medicine))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return PersonTokenIndex.allergiesOf(person).stream().anyMatch(normalizedAllergyNames::contains)
+                || PersonTokenIndex.medicinesOf(person).stream().anyMatch(normalizedMedicineNames::contains);
+    }
+
+    @Override
+    public Predicate<Person> bindTo(UniquePersonList persons) {
+        return persons.matchingAnyAllergy(normalizedAllergyNames)
+                .or(persons.matchingAnyMedicine(normalizedMedicineNames));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HasAllergyOrMedicinePredicate otherPredicate)) {
+            return false;
+        }
+
+        return allergies.equals(otherPredicate.allergies) && medicines.equals(otherPredicate.medicines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("allergies", allergies)
+                .add("medicines", medicines)
+                .toString();
+    }
+}
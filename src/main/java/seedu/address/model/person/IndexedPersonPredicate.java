@@ -0,0 +1,15 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} that can be answered for the persons in a {@code UniquePersonList} from the indexes of
+ * the list, instead of by testing each person against it.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns a predicate that agrees with this predicate on the persons in {@code persons}.
+     */
+    Predicate<Person> bindTo(UniquePersonList persons);
+}
@@ -1,26 +1,34 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Name} or {@code IdentityNumber} matches any of the keywords given.
+ * <p>
+ * When filtering a {@code UniquePersonList}, the matches are looked up in the list's token index instead.
  */
-public class NameOrIdContainsKeywordsPredicate implements Predicate<Person> {
+public class NameOrIdContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
+    private final Set<String> normalizedKeywords;
 
     public NameOrIdContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(PersonTokenIndex::normalize).collect(Collectors.toSet());
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword)
-                        || StringUtil.containsWordIgnoreCase(person.getIdentityNumber().identityNumber, keyword));
+        return PersonTokenIndex.tokensOf(person).stream().anyMatch(normalizedKeywords::contains);
+    }
+
+    @Override
+    public Predicate<Person> bindTo(UniquePersonList persons) {
+        return persons.matchingAnyToken(normalizedKeywords);
     }
 
     @Override
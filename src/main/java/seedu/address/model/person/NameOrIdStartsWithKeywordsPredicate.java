@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name}, or their {@code IdentityNumber}, starts with any of the
+ * keyword prefixes given, ignoring case.
+ * <p>
+ * When filtering a {@code UniquePersonList}, the matches are looked up in the list's token index instead.
+ */
+public class NameOrIdStartsWithKeywordsPredicate implements IndexedPersonPredicate {
+    private final List<String> prefixes;
+    private final Set<String> normalizedPrefixes;
+
+    public NameOrIdStartsWithKeywordsPredicate(List<String> prefixes) {
+        this.prefixes = prefixes;
+        this.normalizedPrefixes = prefixes.stream().map(PersonTokenIndex::normalize).collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return PersonTokenIndex.tokensOf(person).stream()
+                .anyMatch(token -> normalizedPrefixes.stream().anyMatch(token::startsWith));
+    }
+
+    @Override
+    public Predicate<Person> bindTo(UniquePersonList persons) {
+        return persons.matchingAnyTokenPrefix(normalizedPrefixes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameOrIdStartsWithKeywordsPredicate otherPredicate)) {
+            return false;
+        }
+
+        return prefixes.equals(otherPredicate.prefixes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("prefixes", prefixes).toString();
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} is similar to the given query, tolerating typos.
+ * Similarity is measured as in {@code NameTrigramIndex}.
+ * <p>
+ * When filtering a {@code UniquePersonList}, the matches are looked up in the list's name trigram index instead,
+ * and are ranked from the most to the least similar name.
+ */
+public class NameSimilarToPredicate implements RankedPersonPredicate {
+    private final String query;
+
+    public NameSimilarToPredicate(String query) {
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        double similarity = NameTrigramIndex.similarity(
+                NameTrigramIndex.trigramsOf(query), NameTrigramIndex.trigramsOf(person.getName().fullName));
+        return similarity >= NameTrigramIndex.MIN_SIMILARITY;
+    }
+
+    @Override
+    public Predicate<Person> bindTo(UniquePersonList persons) {
+        return persons.matchingSimilarName(query);
+    }
+
+    @Override
+    public Comparator<Person> rankIn(UniquePersonList persons) {
+        return persons.matchingSimilarName(query);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSimilarToPredicate otherPredicate)) {
+            return false;
+        }
+
+        return query.equals(otherPredicate.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
@@ -0,0 +1,251 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An index from the trigrams of persons' names, ignoring case, to the identity numbers of those persons, used to find
+ * names similar to a possibly misspelled query.
+ * <p>
+ * Each word of a name is padded with two spaces in front and one behind before it is split into trigrams, so that
+ * the start of a word weighs more than its end, and short words still have trigrams. Two names are compared by
+ * their Dice coefficient: twice the number of trigrams they share, over the total number of trigrams in both.
+ * Only the persons sharing at least one trigram with the query are scored, so a lookup takes time proportional to
+ * the sizes of the query's posting lists rather than to the number of persons. Persons are numbered by ordinals
+ * so that posting lists are plain arrays and shared trigrams are counted in a reused array.
+ */
+public class NameTrigramIndex {
+
+    /** The lowest similarity for a name to be considered a match for a query. */
+    public static final double MIN_SIMILARITY = 0.4;
+
+    private static final Comparator<Person> TIE_BREAKER = Comparator.comparing((Person person) ->
+            person.getName().fullName).thenComparing(person -> person.getIdentityNumber().identityNumber);
+
+    private final Map<String, Postings> postingsByTrigram = new HashMap<>();
+    private final Map<IdentityNumber, Integer> ordinals = new HashMap<>();
+    private final List<IdentityNumber> idsByOrdinal = new ArrayList<>();
+    private int[] trigramCounts = new int[0];
+    private int[] sharedCounts = new int[0];
+    private int removedCount;
+    private int modificationCount;
+
+    /**
+     * Returns the trigrams of the words of {@code text}, ignoring case in the same way in every locale.
+     */
+    public static Set<String> trigramsOf(String text) {
+        requireNonNull(text);
+        Set<String> trigrams = new HashSet<>();
+        for (String word : text.trim().toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String paddedWord = "  " + word + " ";
+            for (int i = 0; i + 3 <= paddedWord.length(); i++) {
+                trigrams.add(paddedWord.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the Dice coefficient of two sets of trigrams, between 0 for no shared trigrams and 1 for equal sets.
+     */
+    public static double similarity(Set<String> firstTrigrams, Set<String> secondTrigrams) {
+        if (firstTrigrams.isEmpty() && secondTrigrams.isEmpty()) {
+            return 0;
+        }
+        long shared = firstTrigrams.stream().filter(secondTrigrams::contains).count();
+        return 2.0 * shared / (firstTrigrams.size() + secondTrigrams.size());
+    }
+
+    /**
+     * Adds the trigrams of the name of {@code person} to the index.
+     */
+    public void add(Person person) {
+        Set<String> trigrams = trigramsOf(person.getName().fullName);
+        int ordinal = idsByOrdinal.size();
+        idsByOrdinal.add(person.getIdentityNumber());
+        ordinals.put(person.getIdentityNumber(), ordinal);
+        if (ordinal == trigramCounts.length) {
+            trigramCounts = Arrays.copyOf(trigramCounts, Math.max(16, ordinal * 2));
+        }
+        trigramCounts[ordinal] = trigrams.size();
+        for (String trigram : trigrams) {
+            postingsByTrigram.computeIfAbsent(trigram, unused -> new Postings()).add(ordinal);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the trigrams of the name of {@code person} from the index.
+     * The person's entries in the posting lists are only dropped when enough persons have been removed for the index
+     * to be rebuilt, so that removing a person does not need to search the posting lists.
+     */
+    public void remove(Person person) {
+        Integer ordinal = ordinals.remove(person.getIdentityNumber());
+        if (ordinal == null) {
+            return;
+        }
+        idsByOrdinal.set(ordinal, null);
+        removedCount++;
+        modificationCount++;
+        if (removedCount > ordinals.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the trigrams of the names of {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the similarity of each indexed person's name to {@code query} that is at least
+     * {@link #MIN_SIMILARITY}, by their identity numbers.
+     */
+    public Map<IdentityNumber, Double> findSimilar(String query) {
+        requireNonNull(query);
+        Set<String> queryTrigrams = trigramsOf(query);
+        if (sharedCounts.length < idsByOrdinal.size()) {
+            sharedCounts = new int[trigramCounts.length];
+        }
+
+        List<Integer> candidates = new ArrayList<>();
+        for (String trigram : queryTrigrams) {
+            Postings postings = postingsByTrigram.get(trigram);
+            if (postings == null) {
+                continue;
+            }
+            for (int i = 0; i < postings.size; i++) {
+                int ordinal = postings.ordinals[i];
+                if (sharedCounts[ordinal]++ == 0) {
+                    candidates.add(ordinal);
+                }
+            }
+        }
+
+        Map<IdentityNumber, Double> similarities = new HashMap<>();
+        for (int ordinal : candidates) {
+            IdentityNumber id = idsByOrdinal.get(ordinal);
+            double similarity = 2.0 * sharedCounts[ordinal] / (queryTrigrams.size() + trigramCounts[ordinal]);
+            sharedCounts[ordinal] = 0;
+            if (id != null && similarity >= MIN_SIMILARITY) {
+                similarities.put(id, similarity);
+            }
+        }
+        return similarities;
+    }
+
+    /**
+     * Returns the matches for {@code query} among the indexed persons.
+     */
+    public SimilarNameMatches matchingSimilar(String query) {
+        requireNonNull(query);
+        return new SimilarNameMatches(query);
+    }
+
+    /**
+     * The indexed persons with names similar to a query. As a predicate, it is true for those persons; as a
+     * comparator, it orders them from the most to the least similar name, and then by name.
+     * The matches are looked up in the index when first needed, and again only after the index changes.
+     */
+    public class SimilarNameMatches implements Predicate<Person>, Comparator<Person> {
+        private final String query;
+        private int matchesVersion = -1;
+        private Map<IdentityNumber, Double> similarities;
+
+        private SimilarNameMatches(String query) {
+            this.query = query;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return getSimilarities().containsKey(person.getIdentityNumber());
+        }
+
+        @Override
+        public int compare(Person first, Person second) {
+            double firstSimilarity = getSimilarities().getOrDefault(first.getIdentityNumber(), 0.0);
+            double secondSimilarity = getSimilarities().getOrDefault(second.getIdentityNumber(), 0.0);
+            int bySimilarity = Double.compare(secondSimilarity, firstSimilarity);
+            return bySimilarity != 0 ? bySimilarity : TIE_BREAKER.compare(first, second);
+        }
+
+        private Map<IdentityNumber, Double> getSimilarities() {
+            if (matchesVersion != modificationCount) {
+                similarities = findSimilar(query);
+                matchesVersion = modificationCount;
+            }
+            return similarities;
+        }
+    }
+
+    private void clear() {
+        postingsByTrigram.clear();
+        ordinals.clear();
+        idsByOrdinal.clear();
+        removedCount = 0;
+        modificationCount++;
+    }
+
+    /**
+     * Rebuilds the posting lists without the persons that have been removed.
+     */
+    private void rebuild() {
+        Map<String, Postings> oldPostings = new HashMap<>(postingsByTrigram);
+        List<IdentityNumber> oldIds = new ArrayList<>(idsByOrdinal);
+        int[] oldTrigramCounts = trigramCounts.clone();
+        clear();
+
+        int[] newOrdinals = new int[oldIds.size()];
+        for (int oldOrdinal = 0; oldOrdinal < oldIds.size(); oldOrdinal++) {
+            IdentityNumber id = oldIds.get(oldOrdinal);
+            if (id != null) {
+                newOrdinals[oldOrdinal] = idsByOrdinal.size();
+                ordinals.put(id, idsByOrdinal.size());
+                trigramCounts[idsByOrdinal.size()] = oldTrigramCounts[oldOrdinal];
+                idsByOrdinal.add(id);
+            }
+        }
+        oldPostings.forEach((trigram, postings) -> {
+            Postings newPostings = new Postings();
+            for (int i = 0; i < postings.size; i++) {
+                if (oldIds.get(postings.ordinals[i]) != null) {
+                    newPostings.add(newOrdinals[postings.ordinals[i]]);
+                }
+            }
+            if (newPostings.size > 0) {
+                postingsByTrigram.put(trigram, newPostings);
+            }
+        });
+    }
+
+    /**
+     * A growable list of the ordinals of the persons whose names contain a trigram.
+     */
+    private static class Postings {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
@@ -33,7 +36,7 @@ public class Person {
     private final Gender gender;
     private final SmokingRecord smokingRecord;
     private final Set<Medicine> medicines = new HashSet<>();
-    private final PastMedicalHistory pastMedicalHistory;
+    private final Supplier<PastMedicalHistory> pastMedicalHistory;
 
     /**
      * Every field must be present and not null.
@@ -43,6 +46,22 @@ public class Person {
                   AlcoholicRecord alcoholicRecord, Gender gender, SmokingRecord smokingRecord,
                   Set<Allergy> allergies, PastMedicalHistory pastMedicalHistory,
                   Set<Medicine> medicines) {
+        this(name, identityNumber, phone, email, address, emergencyContact, tags, dateOfBirth, bloodType,
+                alcoholicRecord, gender, smokingRecord, allergies, () -> pastMedicalHistory, medicines);
+        requireNonNull(pastMedicalHistory);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * The past medical history is obtained from {@code pastMedicalHistory} whenever it is needed, so that it can be
+     * loaded only when the person is viewed or edited, rather than held in memory for every person. If it is a
+     * {@code StoredPastMedicalHistory}, comparing, hashing and printing the person do not load it.
+     */
+    public Person(Name name, IdentityNumber identityNumber, Phone phone, Email email, Address address,
+                  EmergencyContact emergencyContact, Set<Tag> tags, DateOfBirth dateOfBirth, BloodType bloodType,
+                  AlcoholicRecord alcoholicRecord, Gender gender, SmokingRecord smokingRecord,
+                  Set<Allergy> allergies, Supplier<PastMedicalHistory> pastMedicalHistory,
+                  Set<Medicine> medicines) {
         requireAllNonNull(name, identityNumber, phone, email, address, emergencyContact, tags, dateOfBirth, bloodType,
                 alcoholicRecord, gender, smokingRecord, allergies, pastMedicalHistory, medicines);
         this.name = name;
@@ -131,7 +150,36 @@ public class Person {
     }
 
     public PastMedicalHistory getPastMedicalHistory() {
-        return pastMedicalHistory;
+        return pastMedicalHistory.get();
+    }
+
+    /**
+     * Returns the past medical history where it is stored, if it is only loaded when it is needed.
+     */
+    public Optional<StoredPastMedicalHistory> getStoredPastMedicalHistory() {
+        return pastMedicalHistory instanceof StoredPastMedicalHistory stored ? Optional.of(stored) : Optional.empty();
+    }
+
+    /**
+     * Returns the value of the past medical history, without loading it if it is stored.
+     */
+    private String getPastMedicalHistoryValue() {
+        return pastMedicalHistory instanceof StoredPastMedicalHistory stored
+                ? stored.getStoredValue()
+                : pastMedicalHistory.get().value;
+    }
+
+    /**
+     * Returns true if both persons have the same past medical history, without loading either of them.
+     */
+    private boolean isSamePastMedicalHistory(Person otherPerson) {
+        if (pastMedicalHistory == otherPerson.pastMedicalHistory
+                || pastMedicalHistory instanceof StoredPastMedicalHistory stored
+                        && otherPerson.pastMedicalHistory instanceof StoredPastMedicalHistory otherStored
+                        && stored.isStoredAtSamePlace(otherStored)) {
+            return true;
+        }
+        return getPastMedicalHistoryValue().equals(otherPerson.getPastMedicalHistoryValue());
     }
 
     /**
@@ -177,15 +225,16 @@ public class Person {
                 && alcoholicRecord.equals(otherPerson.alcoholicRecord)
                 && gender.equals(otherPerson.gender)
                 && smokingRecord.equals(otherPerson.smokingRecord)
-                && pastMedicalHistory.equals(otherPerson.pastMedicalHistory);
+                && isSamePastMedicalHistory(otherPerson);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
+        // The past medical history is left out, so that hashing a person does not load it.
         return Objects.hash(name, identityNumber, phone, email, address, emergencyContact, tags,
                 dateOfBirth, bloodType, alcoholicRecord, gender, smokingRecord,
-                allergies, pastMedicalHistory, medicines);
+                allergies, medicines);
     }
 
     @Override
@@ -204,7 +253,7 @@ public class Person {
                 .add("gender", gender)
                 .add("value", smokingRecord)
                 .add("allergies", allergies)
-                .add("pastMedicalHistory", pastMedicalHistory)
+                .add("pastMedicalHistory", getPastMedicalHistoryValue())
                 .add("medicines", medicines)
                 .toString();
     }
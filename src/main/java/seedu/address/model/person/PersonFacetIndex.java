@@ -0,0 +1,219 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * An index from the values of categorical fields of persons, such as their blood type or tags, ignoring case, to
+ * bitmaps of the persons with those values, used to answer compound filters with bitwise operations.
+ * <p>
+ * Persons are numbered by ordinals, and each bitmap has the bits of the ordinals of its persons set. The ordinals of
+ * removed persons are reused, so the bitmaps stay as dense as the list of persons. Persons are also indexed by the
+ * year they were born in, so that the persons of an age are found by combining the bitmaps of whole years, and only
+ * checking the birth dates of the persons born in the year at either end.
+ */
+public class PersonFacetIndex {
+
+    /**
+     * A field of persons that can be filtered on.
+     */
+    public enum Facet {
+        BLOOD_TYPE(person -> Set.of(person.getBloodType().bloodType)),
+        GENDER(person -> Set.of(person.getGender().gender)),
+        SMOKING_RECORD(person -> Set.of(person.getSmokingRecord().value)),
+        ALCOHOLIC_RECORD(person -> Set.of(person.getAlcoholicRecord().alcoholicRecord)),
+        TAG(person -> person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toSet()));
+
+        private final Function<Person, Set<String>> values;
+
+        Facet(Function<Person, Set<String>> values) {
+            this.values = values;
+        }
+
+        /**
+         * Returns the values of this field of {@code person}, all lower-cased.
+         */
+        public Set<String> valuesOf(Person person) {
+            requireNonNull(person);
+            return values.apply(person).stream().map(PersonFacetIndex::normalize).collect(Collectors.toSet());
+        }
+    }
+
+    private final Map<Facet, Map<String, BitSet>> bitmapsByValue = new EnumMap<>(Facet.class);
+    private final NavigableMap<Integer, BitSet> bitmapsByBirthYear = new TreeMap<>();
+    private final Map<IdentityNumber, Integer> ordinals = new HashMap<>();
+    private final BitSet liveOrdinals = new BitSet();
+    private LocalDate[] birthDates = new LocalDate[16];
+    private int modificationCount;
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonFacetIndex() {
+        for (Facet facet : Facet.values()) {
+            bitmapsByValue.put(facet, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns {@code value} in the form that it is stored in the index, lower-cased in the same way in every locale.
+     */
+    public static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds the field values of {@code person} to the index.
+     */
+    public void add(Person person) {
+        int ordinal = liveOrdinals.nextClearBit(0);
+        liveOrdinals.set(ordinal);
+        ordinals.put(person.getIdentityNumber(), ordinal);
+        for (Facet facet : Facet.values()) {
+            Map<String, BitSet> bitmaps = bitmapsByValue.get(facet);
+            for (String value : facet.valuesOf(person)) {
+                bitmaps.computeIfAbsent(value, unused -> new BitSet()).set(ordinal);
+            }
+        }
+
+        LocalDate birthDate = person.getDateOfBirth().dateOfBirth;
+        if (ordinal == birthDates.length) {
+            birthDates = Arrays.copyOf(birthDates, ordinal * 2);
+        }
+        birthDates[ordinal] = birthDate;
+        bitmapsByBirthYear.computeIfAbsent(birthDate.getYear(), unused -> new BitSet()).set(ordinal);
+        modificationCount++;
+    }
+
+    /**
+     * Removes the field values of {@code person} from the index, freeing its ordinal for the next person added.
+     */
+    public void remove(Person person) {
+        Integer ordinal = ordinals.remove(person.getIdentityNumber());
+        if (ordinal == null) {
+            return;
+        }
+        for (Facet facet : Facet.values()) {
+            Map<String, BitSet> bitmaps = bitmapsByValue.get(facet);
+            for (String value : facet.valuesOf(person)) {
+                clear(bitmaps, value, ordinal);
+            }
+        }
+        clear(bitmapsByBirthYear, birthDates[ordinal].getYear(), ordinal);
+        birthDates[ordinal] = null;
+        liveOrdinals.clear(ordinal);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of the index with the field values of {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        bitmapsByValue.values().forEach(Map::clear);
+        bitmapsByBirthYear.clear();
+        ordinals.clear();
+        liveOrdinals.clear();
+        Arrays.fill(birthDates, null);
+        modificationCount++;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns a bitmap of all the indexed persons. The bitmap is a copy that may be modified by the caller.
+     */
+    public BitSet all() {
+        return (BitSet) liveOrdinals.clone();
+    }
+
+    /**
+     * Returns a bitmap of the indexed persons with any of {@code values} in {@code facet}, ignoring case.
+     * The bitmap is a copy that may be modified by the caller.
+     */
+    public BitSet withAny(Facet facet, Collection<String> values) {
+        requireNonNull(facet);
+        requireNonNull(values);
+        BitSet matches = new BitSet();
+        for (String value : values) {
+            BitSet bitmap = bitmapsByValue.get(facet).get(normalize(value));
+            if (bitmap != null) {
+                matches.or(bitmap);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a bitmap of the indexed persons born on or before {@code date}.
+     * The bitmap is a copy that may be modified by the caller.
+     */
+    public BitSet bornOnOrBefore(LocalDate date) {
+        requireNonNull(date);
+        BitSet matches = new BitSet();
+        bitmapsByBirthYear.headMap(date.getYear(), false).values().forEach(matches::or);
+        BitSet bornInSameYear = bitmapsByBirthYear.get(date.getYear());
+        if (bornInSameYear != null) {
+            bornInSameYear.stream()
+                    .filter(ordinal -> !birthDates[ordinal].isAfter(date))
+                    .forEach(matches::set);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that is true for the indexed persons satisfying {@code expression} on {@code today}.
+     * The expression is evaluated when the predicate is first tested, and again only after the index changes,
+     * so testing every indexed person takes constant time per person.
+     */
+    public Predicate<Person> matching(FacetExpression expression, LocalDate today) {
+        requireNonNull(expression);
+        requireNonNull(today);
+        return new FacetMatches(expression, today);
+    }
+
+    private static <K> void clear(Map<K, BitSet> bitmaps, K key, int ordinal) {
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.clear(ordinal);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    private class FacetMatches implements Predicate<Person> {
+        private final FacetExpression expression;
+        private final LocalDate today;
+        private int matchesVersion = -1;
+        private BitSet matches;
+
+        FacetMatches(FacetExpression expression, LocalDate today) {
+            this.expression = expression;
+            this.today = today;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matchesVersion != modificationCount) {
+                matches = expression.evaluate(PersonFacetIndex.this, today);
+                matchesVersion = modificationCount;
+            }
+            Integer ordinal = ordinals.get(person.getIdentityNumber());
+            return ordinal != null && matches.get(ordinal);
+        }
+    }
+}
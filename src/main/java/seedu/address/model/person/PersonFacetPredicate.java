@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} satisfies a {@code FacetExpression} on the current date.
+ * <p>
+ * When filtering a {@code UniquePersonList}, the expression is evaluated over the bitmaps of the list's facet index
+ * instead, in time proportional to the size of the bitmaps rather than to the number of persons tested. The date is
+ * then read once, when the predicate is bound to the list, so the filter keeps the ages as of when it was applied.
+ */
+public class PersonFacetPredicate implements IndexedPersonPredicate {
+    private final FacetExpression expression;
+    private final Clock clock;
+
+    /**
+     * Creates a predicate for the persons satisfying {@code expression} on the date of the system clock.
+     */
+    public PersonFacetPredicate(FacetExpression expression) {
+        this(expression, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a predicate for the persons satisfying {@code expression} on the date of {@code clock}.
+     */
+    public PersonFacetPredicate(FacetExpression expression, Clock clock) {
+        requireNonNull(expression);
+        requireNonNull(clock);
+        this.expression = expression;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return expression.test(person, LocalDate.now(clock));
+    }
+
+    @Override
+    public Predicate<Person> bindTo(UniquePersonList persons) {
+        return persons.matchingFacets(expression, LocalDate.now(clock));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonFacetPredicate otherPredicate)) {
+            return false;
+        }
+
+        return expression.equals(otherPredicate.expression);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("expression", expression).toString();
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index from tokens of persons, ignoring case, to the identity numbers of those persons.
+ * By default, the tokens of a person are the words of their name and their identity number.
+ * <p>
+ * Persons are matched against keywords as {@code StringUtil#containsWordIgnoreCase(String, String)} would match
+ * them, but by looking up each keyword once instead of splitting every person's name for every keyword.
+ * The tokens are kept sorted, so the tokens starting with a prefix are next to each other and can be found without
+ * looking at any other token.
+ */
+public class PersonTokenIndex {
+
+    private final Function<Person, Set<String>> tokenizer;
+    private final NavigableMap<String, Set<IdentityNumber>> idsByToken = new TreeMap<>();
+    private int modificationCount;
+
+    /**
+     * Creates an index of the words of persons' names and their identity numbers.
+     */
+    public PersonTokenIndex() {
+        this(PersonTokenIndex::tokensOf);
+    }
+
+    /**
+     * Creates an index of the tokens returned by {@code tokenizer}, which must already be normalized.
+     */
+    public PersonTokenIndex(Function<Person, Set<String>> tokenizer) {
+        requireNonNull(tokenizer);
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * Returns the tokens of {@code person} that keywords are matched against: the words of their name and their
+     * identity number, all lower-cased.
+     */
+    public static Set<String> tokensOf(Person person) {
+        requireNonNull(person);
+        Set<String> tokens = new HashSet<>();
+        for (String word : person.getName().fullName.split("\\s+")) {
+            tokens.add(normalize(word));
+        }
+        tokens.add(normalize(person.getIdentityNumber().identityNumber));
+        return tokens;
+    }
+
+    /**
+     * Returns the names of the allergies of {@code person}, all lower-cased.
+     */
+    public static Set<String> allergiesOf(Person person) {
+        requireNonNull(person);
+        return person.getAllergies().stream()
+                .map(allergy -> normalize(allergy.allergyName))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the names of the medicines of {@code person}, all lower-cased.
+     */
+    public static Set<String> medicinesOf(Person person) {
+        requireNonNull(person);
+        return person.getMedicines().stream()
+                .map(medicine -> normalize(medicine.medicine))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns {@code keyword} in the form that it is stored in the index. Case is folded the same way in every
+     * locale, as {@code String#equalsIgnoreCase(String)} does.
+     */
+    public static String normalize(String keyword) {
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds the tokens of {@code person} to the index.
+     */
+    public void add(Person person) {
+        for (String token : tokenizer.apply(person)) {
+            idsByToken.computeIfAbsent(token, unused -> new HashSet<>()).add(person.getIdentityNumber());
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the tokens of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        for (String token : tokenizer.apply(person)) {
+            Set<IdentityNumber> ids = idsByToken.get(token);
+            if (ids != null && ids.remove(person.getIdentityNumber()) && ids.isEmpty()) {
+                idsByToken.remove(token);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of the index with the tokens of {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        idsByToken.clear();
+        modificationCount++;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the identity numbers of the persons with a token equal to any of {@code keywords}, ignoring case,
+     * in time proportional to the number of matches.
+     */
+    public Set<IdentityNumber> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<IdentityNumber> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(idsByToken.getOrDefault(normalize(keyword), Set.of()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the identity numbers of the persons with a token starting with any of {@code prefixes}, ignoring case,
+     * in time proportional to the number of matching tokens.
+     */
+    public Set<IdentityNumber> findAnyWithPrefix(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        Set<IdentityNumber> matches = new HashSet<>();
+        for (String prefix : prefixes) {
+            String normalizedPrefix = normalize(prefix);
+            for (Map.Entry<String, Set<IdentityNumber>> entry : idsByToken.tailMap(normalizedPrefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(normalizedPrefix)) {
+                    break;
+                }
+                matches.addAll(entry.getValue());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that is true for the indexed persons with a token equal to any of {@code keywords},
+     * ignoring case.
+     */
+    public Predicate<Person> matchingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return new IndexedMatches(() -> findAny(keywords));
+    }
+
+    /**
+     * Returns a predicate that is true for the indexed persons with a token starting with any of {@code prefixes},
+     * ignoring case.
+     */
+    public Predicate<Person> matchingAnyPrefix(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        return new IndexedMatches(() -> findAnyWithPrefix(prefixes));
+    }
+
+    /**
+     * A predicate that is true for the persons whose identity numbers are found by a lookup in this index.
+     * The lookup is done when the predicate is first tested, and again only after the index changes, so testing
+     * every indexed person takes constant time per person.
+     */
+    private class IndexedMatches implements Predicate<Person> {
+        private final Supplier<Set<IdentityNumber>> lookup;
+        private int matchesVersion = -1;
+        private Set<IdentityNumber> matches;
+
+        IndexedMatches(Supplier<Set<IdentityNumber>> lookup) {
+            this.lookup = lookup;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matchesVersion != modificationCount) {
+                matches = lookup.get();
+                matchesVersion = modificationCount;
+            }
+            return matches.contains(person.getIdentityNumber());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+
+/**
+ * An {@code IndexedPersonPredicate} whose matches have an order of relevance, such as how closely they match a query.
+ */
+public interface RankedPersonPredicate extends IndexedPersonPredicate {
+
+    /**
+     * Returns a comparator that orders the persons in {@code persons} that satisfy this predicate from the most to
+     * the least relevant.
+     */
+    Comparator<Person> rankIn(UniquePersonList persons);
+}
@@ -0,0 +1,21 @@
+package seedu.address.model.person;
+
+import java.util.function.Supplier;
+
+/**
+ * A past medical history that is kept where it is stored, such as in a data file, and only loaded as a
+ * {@code PastMedicalHistory} when it is needed.
+ */
+public interface StoredPastMedicalHistory extends Supplier<PastMedicalHistory> {
+
+    /**
+     * Returns the value of the history as it is stored, without loading the history.
+     */
+    String getStoredValue();
+
+    /**
+     * Returns true if {@code other} is stored in the same place as this history, and so has the same value, without
+     * reading either of them.
+     */
+    boolean isStoredAtSamePlace(StoredPastMedicalHistory other);
+}
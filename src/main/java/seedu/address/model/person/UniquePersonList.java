@@ -3,8 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +28,14 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * <p>
+ * The position of every person in the backing list is indexed by {@code IdentityNumber}, so identity lookups,
+ * duplicate checks and in-place replacements take constant time regardless of the size of the list. The words of
+ * every person's name and their identity number are also indexed, so that keyword searches are answered from the
+ * index instead of by testing every person, and the trigrams of every name, so that names can be matched despite
+ * typos. The persons with each allergy and each medicine are indexed too, and bitmaps of the persons with each
+ * value of the categorical fields, so that compound filters are answered with bitwise operations. All indexes are
+ * updated before the backing list, so listeners of the list always see up-to-date indexes.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -27,13 +44,97 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityNumber, Integer> positions = new HashMap<>();
+    private final PersonTokenIndex tokenIndex = new PersonTokenIndex();
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+    private final PersonTokenIndex allergyIndex = new PersonTokenIndex(PersonTokenIndex::allergiesOf);
+    private final PersonTokenIndex medicineIndex = new PersonTokenIndex(PersonTokenIndex::medicinesOf);
+    private final PersonFacetIndex facetIndex = new PersonFacetIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getIdentityNumber());
+    }
+
+    /**
+     * Returns the person with the given {@code identityNumber}, if present in the list.
+     */
+    public Optional<Person> findById(IdentityNumber identityNumber) {
+        requireNonNull(identityNumber);
+        Integer index = positions.get(identityNumber);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in this list whose name contains a word equal to any of
+     * {@code keywords}, or whose identity number is equal to any of {@code keywords}, ignoring case.
+     */
+    public Predicate<Person> matchingAnyToken(Collection<String> keywords) {
+        return tokenIndex.matchingAny(keywords);
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in this list whose name contains a word starting with any of
+     * {@code prefixes}, or whose identity number starts with any of {@code prefixes}, ignoring case.
+     */
+    public Predicate<Person> matchingAnyTokenPrefix(Collection<String> prefixes) {
+        return tokenIndex.matchingAnyPrefix(prefixes);
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in this list with an allergy named any of {@code allergyNames},
+     * ignoring case.
+     */
+    public Predicate<Person> matchingAnyAllergy(Collection<String> allergyNames) {
+        return allergyIndex.matchingAny(allergyNames);
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in this list taking a medicine named any of
+     * {@code medicineNames}, ignoring case.
+     */
+    public Predicate<Person> matchingAnyMedicine(Collection<String> medicineNames) {
+        return medicineIndex.matchingAny(medicineNames);
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in this list satisfying {@code expression} on {@code today}.
+     */
+    public Predicate<Person> matchingFacets(FacetExpression expression, LocalDate today) {
+        return facetIndex.matching(expression, today);
+    }
+
+    /**
+     * Returns the persons in this list with names similar to {@code query}, which can be used both to filter
+     * this list and to rank the matches from the most to the least similar name.
+     */
+    public NameTrigramIndex.SimilarNameMatches matchingSimilarName(String query) {
+        return nameTrigramIndex.matchingSimilar(query);
+    }
+
+    /**
+     * Returns a predicate that agrees with {@code predicate} on the persons in this list, answered from the indexes
+     * of this list if {@code predicate} is an {@code IndexedPersonPredicate}.
+     */
+    public Predicate<Person> bind(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return predicate instanceof IndexedPersonPredicate indexedPredicate
+                ? indexedPredicate.bindTo(this)
+                : predicate;
+    }
+
+    /**
+     * Returns the order of relevance of the persons in this list that satisfy {@code predicate}, if
+     * {@code predicate} is a {@code RankedPersonPredicate}.
+     */
+    public Optional<Comparator<Person>> rank(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return predicate instanceof RankedPersonPredicate rankedPredicate
+                ? Optional.of(rankedPredicate.rankIn(this))
+                : Optional.empty();
     }
 
     /**
@@ -45,6 +146,8 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getIdentityNumber(), internalList.size());
+        addToIndexes(toAdd);
         internalList.add(toAdd);
     }
 
@@ -56,7 +159,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +168,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positions.remove(target.getIdentityNumber());
+        positions.put(editedPerson.getIdentityNumber(), index);
+        removeFromIndexes(target);
+        addToIndexes(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,26 +181,48 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        positions.remove(toRemove.getIdentityNumber());
+        removeFromIndexes(toRemove);
+        internalList.remove(index);
+        reindexFrom(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        setIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
+     * Replaces the contents of this list with {@code persons}, building the identity index in the same pass.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every duplicated identity number if {@code persons} is not unique.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<IdentityNumber, Integer> newPositions = new HashMap<>();
+        Set<IdentityNumber> duplicateIds = new LinkedHashSet<>();
+        for (int i = 0; i < persons.size(); i++) {
+            IdentityNumber id = persons.get(i).getIdentityNumber();
+            if (newPositions.putIfAbsent(id, i) != null) {
+                duplicateIds.add(id);
+            }
+        }
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicatePersonException(duplicateIds);
         }
 
+        positions.clear();
+        positions.putAll(newPositions);
+        setIndexes(persons);
         internalList.setAll(persons);
     }
 
@@ -135,16 +264,46 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of a person equal to {@code person} in the backing list, or -1 if there is none.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Person person) {
+        Integer index = positions.get(person.getIdentityNumber());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Re-records the positions of all persons from {@code start} to the end of the backing list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getIdentityNumber(), i);
         }
-        return true;
+    }
+
+    private void addToIndexes(Person person) {
+        tokenIndex.add(person);
+        nameTrigramIndex.add(person);
+        allergyIndex.add(person);
+        medicineIndex.add(person);
+        facetIndex.add(person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        tokenIndex.remove(person);
+        nameTrigramIndex.remove(person);
+        allergyIndex.remove(person);
+        medicineIndex.remove(person);
+        facetIndex.remove(person);
+    }
+
+    private void setIndexes(List<Person> persons) {
+        tokenIndex.setAll(persons);
+        nameTrigramIndex.setAll(persons);
+        allergyIndex.setAll(persons);
+        medicineIndex.setAll(persons);
+        facetIndex.setAll(persons);
     }
 }
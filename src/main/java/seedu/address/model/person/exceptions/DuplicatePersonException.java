@@ -1,11 +1,38 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.IdentityNumber;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<IdentityNumber> duplicateIds;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        this.duplicateIds = List.of();
+    }
+
+    /**
+     * Creates an exception reporting every identity number in {@code duplicateIds} as duplicated.
+     */
+    public DuplicatePersonException(Collection<IdentityNumber> duplicateIds) {
+        super("Operation would result in duplicate persons: " + duplicateIds.stream()
+                .map(IdentityNumber::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicateIds = List.copyOf(duplicateIds);
+    }
+
+    /**
+     * Returns the identity numbers that occur more than once, or an empty list if they were not collected.
+     */
+    public List<IdentityNumber> getDuplicateIds() {
+        return duplicateIds;
     }
 }
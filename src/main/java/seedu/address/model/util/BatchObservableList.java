@@ -0,0 +1,53 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList} that can report several modifications to its
+ * listeners as a single change.
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Runs {@code modifications}, which should modify this list, and notifies listeners of all the
+     * modifications made as one change once it returns.
+     */
+    public void batch(Runnable modifications) {
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
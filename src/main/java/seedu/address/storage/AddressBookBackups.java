@@ -0,0 +1,280 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * Numbered point-in-time backups of an address book, kept in a folder as full copies of the address book, each
+ * followed by deltas that hold only the changes since the backup before them.
+ * <p>
+ * A delta is a file of the same entries that {@link AddressBookJournal} appends for a save, so a backup taken after a
+ * few commands takes space in proportion to the commands rather than to the address book. Restoring a backup reads
+ * the full copy before it and applies the deltas up to it in order. A full copy is taken instead of a delta for the
+ * first backup of each run, after every {@code maxDeltasPerFullCopy} deltas, and whenever the delta would have more
+ * entries than the address book has persons and appointments.
+ * <p>
+ * Backups are deleted from the oldest once more than {@code maxBackups} are kept, a full copy and its deltas at a
+ * time, so that every backup that is kept can still be restored.
+ */
+public class AddressBookBackups {
+
+    public static final String BACKUPS_FOLDER_SUFFIX = ".backups";
+    public static final int DEFAULT_MAX_DELTAS_PER_FULL_COPY = 20;
+    public static final int DEFAULT_MAX_BACKUPS = 100;
+
+    public static final String MESSAGE_MISSING_FULL_COPY = "The full copy before backup %d is missing";
+    public static final String MESSAGE_INVALID_DELTA = "Invalid entry on line %1$d of backup %2$d: %3$s";
+
+    private static final String FULL_COPY_SUFFIX = ".full.json";
+    private static final String DELTA_SUFFIX = ".delta.json";
+    private static final Pattern FILE_NAME_FORMAT = Pattern.compile(
+            "backup-(?<number>\\d{1,9})-(?<time>\\d{8}T\\d{6})(?<suffix>\\.full\\.json|\\.delta\\.json)");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookBackups.class);
+
+    private final Path directory;
+    private final Clock clock;
+    private final int maxDeltasPerFullCopy;
+    private final int maxBackups;
+
+    /** The lists as last backed up in this run, or null if nothing has been backed up yet. */
+    private List<Person> backedUpPersons;
+    private List<Appointment> backedUpAppointments;
+    private int backedUpNumber;
+    private int deltasSinceFullCopy;
+
+    /**
+     * A backup, numbered in the order the backups were taken.
+     *
+     * @param isFullCopy true if the backup is a full copy of the address book, rather than a delta.
+     */
+    public record Backup(int number, LocalDateTime time, boolean isFullCopy, Path filePath) {}
+
+    /**
+     * Creates the backups of the address book at {@code addressBookFilePath}, kept in a folder next to it with the
+     * same name followed by {@value #BACKUPS_FOLDER_SUFFIX}.
+     */
+    public AddressBookBackups(Path addressBookFilePath) {
+        this(addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + BACKUPS_FOLDER_SUFFIX),
+                Clock.systemDefaultZone(), DEFAULT_MAX_DELTAS_PER_FULL_COPY, DEFAULT_MAX_BACKUPS);
+    }
+
+    /**
+     * Creates the backups kept in {@code directory}, timed by {@code clock}, with a full copy after at most
+     * {@code maxDeltasPerFullCopy} deltas and at least {@code maxBackups} backups kept.
+     */
+    AddressBookBackups(Path directory, Clock clock, int maxDeltasPerFullCopy, int maxBackups) {
+        requireNonNull(directory);
+        requireNonNull(clock);
+        if (maxDeltasPerFullCopy < 0 || maxBackups <= 0) {
+            throw new IllegalArgumentException("Invalid backup limits: " + maxDeltasPerFullCopy + ", " + maxBackups);
+        }
+        this.directory = directory;
+        this.clock = clock;
+        this.maxDeltasPerFullCopy = maxDeltasPerFullCopy;
+        this.maxBackups = maxBackups;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the backups in the folder, from the oldest to the latest.
+     *
+     * @throws IOException if the folder could not be read.
+     */
+    public synchronized List<Backup> list() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries.toList();
+        }
+
+        List<Backup> backups = new ArrayList<>();
+        for (Path file : files) {
+            Matcher matcher = FILE_NAME_FORMAT.matcher(file.getFileName().toString());
+            if (matcher.matches()) {
+                backups.add(new Backup(Integer.parseInt(matcher.group("number")),
+                        LocalDateTime.parse(matcher.group("time"), TIME_FORMAT),
+                        matcher.group("suffix").equals(FULL_COPY_SUFFIX), file));
+            }
+        }
+        backups.sort(Comparator.comparingInt(Backup::number));
+        return backups;
+    }
+
+    /**
+     * Backs up {@code addressBook} as the latest backup, unless it has not changed since the last backup of this
+     * run, and deletes the oldest backups that are no longer kept.
+     *
+     * @return true if a backup was taken.
+     * @throws IOException if the backup could not be written.
+     */
+    public synchronized boolean backUp(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        List<Backup> backups = list();
+        int latestNumber = backups.isEmpty() ? 0 : backups.get(backups.size() - 1).number();
+        // Deltas can only follow the backup they were taken against, which may have been deleted since.
+        boolean isAfterLastBackup = backedUpPersons != null && latestNumber == backedUpNumber;
+        List<JsonAdaptedJournalEntry> entries = isAfterLastBackup
+                ? AddressBookJournal.changesBetween(backedUpPersons, backedUpAppointments,
+                        addressBook.getPersonList(), addressBook.getAppointmentList())
+                : List.of();
+        if (isAfterLastBackup && entries.isEmpty()) {
+            return false;
+        }
+
+        int number = latestNumber + 1;
+        LocalDateTime time = LocalDateTime.now(clock).withNano(0);
+        int size = addressBook.getPersonList().size() + addressBook.getAppointmentList().size();
+        Backup backup;
+        if (isAfterLastBackup && deltasSinceFullCopy < maxDeltasPerFullCopy && entries.size() <= size) {
+            backup = new Backup(number, time, false, directory.resolve(fileName(number, time, DELTA_SUFFIX)));
+            writeDelta(entries, backup.filePath());
+            deltasSinceFullCopy++;
+        } else {
+            backup = new Backup(number, time, true, directory.resolve(fileName(number, time, FULL_COPY_SUFFIX)));
+            new JsonAddressBookStorage(backup.filePath(), false).saveAddressBook(addressBook);
+            deltasSinceFullCopy = 0;
+        }
+        backedUpPersons = List.copyOf(addressBook.getPersonList());
+        backedUpAppointments = List.copyOf(addressBook.getAppointmentList());
+        backedUpNumber = number;
+        logger.fine("Took backup " + backup.filePath());
+
+        backups = new ArrayList<>(backups);
+        backups.add(backup);
+        deleteExpired(backups);
+        return true;
+    }
+
+    /**
+     * Returns the address book as it was when backup {@code number} was taken, or {@code Optional.empty()} if there
+     * is no such backup.
+     *
+     * @throws DataLoadingException if the backup, or the backups it is a delta of, could not be read.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> restore(int number) throws DataLoadingException {
+        List<Backup> backups;
+        try {
+            backups = list();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        int index = 0;
+        while (index < backups.size() && backups.get(index).number() != number) {
+            index++;
+        }
+        if (index == backups.size()) {
+            return Optional.empty();
+        }
+        int fullCopyIndex = index;
+        while (fullCopyIndex >= 0 && !backups.get(fullCopyIndex).isFullCopy()) {
+            fullCopyIndex--;
+        }
+        if (fullCopyIndex < 0) {
+            throw new DataLoadingException(new IllegalValueException(String.format(MESSAGE_MISSING_FULL_COPY,
+                    number)));
+        }
+
+        Path fullCopyPath = backups.get(fullCopyIndex).filePath();
+        ReadOnlyAddressBook fullCopy = new JsonAddressBookStorage(fullCopyPath).readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(new IOException("Missing backup " + fullCopyPath)));
+        List<Person> persons = new ArrayList<>(fullCopy.getPersonList());
+        List<Appointment> appointments = new ArrayList<>(fullCopy.getAppointmentList());
+        AddressBook addressBook = new AddressBook();
+        try {
+            for (Backup delta : backups.subList(fullCopyIndex + 1, index + 1)) {
+                applyDelta(delta, persons, appointments);
+            }
+            JournaledAddressBookStorage.setLists(addressBook, persons, appointments);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in backup " + number + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(addressBook);
+    }
+
+    private static String fileName(int number, LocalDateTime time, String suffix) {
+        return "backup-" + number + "-" + time.format(TIME_FORMAT) + suffix;
+    }
+
+    private static void writeDelta(List<JsonAdaptedJournalEntry> entries, Path filePath) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        FileUtil.writeToFile(filePath, lines.toString());
+    }
+
+    private static void applyDelta(Backup delta, List<Person> persons, List<Appointment> appointments)
+            throws IOException, IllegalValueException {
+        List<String> lines = Files.readAllLines(delta.filePath(), UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            try {
+                JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class).applyTo(persons, appointments);
+            } catch (JsonProcessingException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_DELTA, i + 1, delta.number(),
+                        e.getOriginalMessage()), e);
+            } catch (IllegalValueException ive) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_DELTA, i + 1, delta.number(),
+                        ive.getMessage()), ive);
+            }
+        }
+    }
+
+    /**
+     * Deletes the full copies at the start of {@code backups}, and their deltas, that are followed by at least
+     * {@code maxBackups} other backups.
+     */
+    private void deleteExpired(List<Backup> backups) throws IOException {
+        int firstKeptIndex = 0;
+        for (int i = 1; i < backups.size() && backups.size() - i >= maxBackups; i++) {
+            if (backups.get(i).isFullCopy()) {
+                firstKeptIndex = i;
+            }
+        }
+        // Newest first, so that a backup is never kept without the backups it is a delta of.
+        for (int i = firstKeptIndex - 1; i >= 0; i--) {
+            Files.deleteIfExists(backups.get(i).filePath());
+        }
+        if (firstKeptIndex > 0) {
+            logger.fine("Deleted " + firstKeptIndex + " expired backups from " + directory);
+        }
+    }
+}
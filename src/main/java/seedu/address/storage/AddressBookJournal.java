@@ -0,0 +1,413 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAdaptedJournalEntry.Operation;
+
+/**
+ * A file of changes to the lists of persons and appointments of an address book, one JSON entry per line, that are
+ * applied in order on top of a snapshot of the address book to recover its latest state.
+ * <p>
+ * Changes are only ever appended, so saving a change takes time proportional to the change rather than to the
+ * address book. The changes of each save form a transaction: the last entry of the save commits it, and the file is
+ * forced to the disk before the save returns. Entries after the last commit, such as those of a save that was cut
+ * short by a crash, are rolled back when the journal is replayed, by truncating the file after the last commit, so
+ * a save is either replayed in full or not at all. A journal that ends in the middle of a line is not appended to
+ * until it has been replayed, so that a later save never lands on the same line as an incomplete entry.
+ * <p>
+ * The first line of the journal records the size and the CRC-32C checksum of the snapshot file when the journal was
+ * started. A new snapshot includes every change in the journal before it, so a journal whose snapshot has since been
+ * replaced, such as after a crash between writing a new snapshot and deleting the journal, is out of date. Snapshots
+ * are told apart by their content rather than their modification times, which can be the same for two snapshots
+ * written in quick succession or after the clock was set back.
+ * Journals started before transactions were added have no commits, and each of their complete entries is replayed.
+ */
+class AddressBookJournal {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Invalid journal entry on line %1$d: %2$s";
+    public static final String MESSAGE_INCOMPLETE_LAST_ENTRY =
+            "Journal %s ends with an incomplete entry, and must be replayed before it is appended to";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final Path filePath;
+    private final Path snapshotPath;
+    private final boolean isMemoryMapped;
+
+    /**
+     * Creates a journal kept in the file at {@code filePath}, of changes to the snapshot at {@code snapshotPath}.
+     */
+    public AddressBookJournal(Path filePath, Path snapshotPath) {
+        this(filePath, snapshotPath, false);
+    }
+
+    /**
+     * Creates a journal kept in the file at {@code filePath}, of changes to the snapshot at {@code snapshotPath},
+     * that is replayed through a {@link MappedFile} if {@code isMemoryMapped} and the platform allows it.
+     */
+    public AddressBookJournal(Path filePath, Path snapshotPath, boolean isMemoryMapped) {
+        requireNonNull(filePath);
+        requireNonNull(snapshotPath);
+        this.filePath = filePath;
+        this.snapshotPath = snapshotPath;
+        this.isMemoryMapped = MappedFile.isMappable(isMemoryMapped);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the journal has a file.
+     */
+    public boolean exists() {
+        return Files.exists(filePath);
+    }
+
+    /**
+     * Returns the size of the journal's file in bytes, or 0 if it does not exist.
+     *
+     * @throws IOException if the size could not be read.
+     */
+    public long size() throws IOException {
+        return exists() ? Files.size(filePath) : 0;
+    }
+
+    /**
+     * Returns true if the journal was started after its snapshot file was last written, and so its changes are not
+     * yet part of the snapshot.
+     *
+     * @throws IOException if the journal could not be read.
+     */
+    public boolean isCurrent() throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            String firstLine = reader.readLine();
+            return firstLine != null
+                    && JsonUtil.fromJsonString(firstLine, JsonAdaptedJournalHeader.class)
+                            .isOfSameSnapshot(snapshotHeader());
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the entries that change {@code savedPersons} and {@code savedAppointments} into {@code persons} and
+     * {@code appointments}. Persons and appointments are immutable, so unchanged ones are recognised by identity.
+     */
+    public static List<JsonAdaptedJournalEntry> changesBetween(List<Person> savedPersons,
+            List<Appointment> savedAppointments, List<Person> persons, List<Appointment> appointments) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        addChanges(entries, savedPersons, persons, JsonAdaptedJournalEntry::ofPerson);
+        addChanges(entries, savedAppointments, appointments, JsonAdaptedJournalEntry::ofAppointment);
+        return entries;
+    }
+
+    /**
+     * Appends {@code entries} to the journal as a single transaction, starting the journal with a record of the
+     * current snapshot file if it is empty or does not exist yet. The entries are on the disk once this returns.
+     *
+     * @throws IOException if the entries could not be written, or the journal ends with an incomplete entry.
+     */
+    public void append(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        requireNonNull(entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        if (size() == 0) {
+            lines.append(JsonUtil.toCompactJsonString(snapshotHeader())).append('\n');
+        }
+        for (int i = 0; i < entries.size() - 1; i++) {
+            lines.append(JsonUtil.toCompactJsonString(entries.get(i))).append('\n');
+        }
+        lines.append(JsonUtil.toCompactJsonString(entries.get(entries.size() - 1).committing())).append('\n');
+
+        try (FileChannel channel = FileChannel.open(filePath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (!endsWithLineTerminator(channel)) {
+                throw new IOException(String.format(MESSAGE_INCOMPLETE_LAST_ENTRY, filePath));
+            }
+            channel.position(channel.size());
+            ByteBuffer bytes = UTF_8.encode(CharBuffer.wrap(lines));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Applies the committed entries in the journal, in order, to {@code persons} and {@code appointments}, which
+     * should hold the lists in its snapshot, and truncates the journal after the last of them. Does nothing if the
+     * journal has no file.
+     *
+     * @return the number of entries applied.
+     * @throws IOException if the journal could not be read or truncated.
+     * @throws IllegalValueException if an entry other than a cut-short last line is invalid, or cannot be applied.
+     */
+    public int replay(List<Person> persons, List<Appointment> appointments) throws IOException, IllegalValueException {
+        requireNonNull(persons);
+        requireNonNull(appointments);
+        if (!exists()) {
+            return 0;
+        }
+
+        int appliedCount = 0;
+        long committedLength;
+        List<JsonAdaptedJournalEntry> uncommitted = new ArrayList<>();
+        try (LineReader reader = new LineReader(isMemoryMapped
+                ? MappedFile.map(filePath).newInputStream()
+                : Files.newInputStream(filePath))) {
+            boolean isTransactional = isTransactional(reader.readLine());
+            // A journal cut short in its first line is emptied, and started again by the next append.
+            committedLength = reader.isLineTerminated() ? reader.getPosition() : 0;
+            int lineNumber = 1;
+            String line = reader.readLine();
+            while (line != null) {
+                lineNumber++;
+                long lineEnd = reader.getPosition();
+                boolean isLineTerminated = reader.isLineTerminated();
+                String nextLine = reader.readLine();
+                if (!isLineTerminated) {
+                    // Its save was cut short before the entry was fully written, even if the entry looks complete.
+                    logger.warning("Ignoring incomplete last entry of journal " + filePath);
+                    break;
+                }
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (JsonProcessingException e) {
+                    if (nextLine == null) {
+                        logger.warning("Ignoring incomplete last entry of journal " + filePath + ": " + e);
+                        break;
+                    }
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, lineNumber,
+                            e.getOriginalMessage()), e);
+                }
+
+                uncommitted.add(entry);
+                if (!isTransactional || entry.isCommit()) {
+                    applyAll(uncommitted, lineNumber - uncommitted.size() + 1, persons, appointments);
+                    appliedCount += uncommitted.size();
+                    uncommitted.clear();
+                    committedLength = lineEnd;
+                }
+                line = nextLine;
+            }
+        }
+
+        if (!uncommitted.isEmpty()) {
+            logger.warning(String.format("Rolling back %d uncommitted entries of journal %s", uncommitted.size(),
+                    filePath));
+        }
+        if (committedLength < Files.size(filePath)) {
+            // Entries appended later must follow the last committed entry, not the rolled back ones.
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+                channel.truncate(committedLength);
+                channel.force(false);
+            }
+        }
+        return appliedCount;
+    }
+
+    /**
+     * Deletes the journal's file, if it exists.
+     *
+     * @throws IOException if the file could not be deleted.
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    private JsonAdaptedJournalHeader snapshotHeader() throws IOException {
+        Checksum checksum = JsonChecksum.newChecksum();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(snapshotPath), checksum)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return new JsonAdaptedJournalHeader(Files.size(snapshotPath),
+                Files.getLastModifiedTime(snapshotPath).toMillis(), JsonChecksum.format(checksum), true);
+    }
+
+    /**
+     * Returns true if the file of {@code channel} is empty or ends with a line terminator.
+     */
+    private static boolean endsWithLineTerminator(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return true;
+        }
+        ByteBuffer lastByte = ByteBuffer.allocate(1);
+        return channel.read(lastByte, size - 1) == 1 && lastByte.get(0) == '\n';
+    }
+
+    /**
+     * Returns true if {@code headerLine}, the first line of the journal, starts a journal of transactions.
+     */
+    private static boolean isTransactional(String headerLine) throws IOException {
+        if (headerLine == null) {
+            return false;
+        }
+        try {
+            return JsonUtil.fromJsonString(headerLine, JsonAdaptedJournalHeader.class).isTransactional();
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies {@code entries}, which start on line {@code firstLineNumber} of the journal, in order.
+     */
+    private static void applyAll(List<JsonAdaptedJournalEntry> entries, int firstLineNumber, List<Person> persons,
+            List<Appointment> appointments) throws IllegalValueException {
+        for (int i = 0; i < entries.size(); i++) {
+            try {
+                entries.get(i).applyTo(persons, appointments);
+            } catch (IllegalValueException ive) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, firstLineNumber + i,
+                        ive.getMessage()), ive);
+            }
+        }
+    }
+
+    /**
+     * Creates a journal entry for a change at an index of a list.
+     */
+    @FunctionalInterface
+    private interface EntryFactory<T> {
+        JsonAdaptedJournalEntry create(Operation operation, int index, T element);
+    }
+
+    /**
+     * Adds to {@code entries} the insertions, replacements and removals that change {@code saved} into
+     * {@code current}, in a single pass over both lists. The index of each entry is the position in the list as it
+     * is being changed, which is also the position in {@code current} of the elements before it.
+     */
+    private static <T> void addChanges(List<JsonAdaptedJournalEntry> entries, List<T> saved, List<T> current,
+            EntryFactory<T> entryFactory) {
+        Set<T> inSaved = Collections.newSetFromMap(new IdentityHashMap<>());
+        inSaved.addAll(saved);
+        Set<T> inCurrent = Collections.newSetFromMap(new IdentityHashMap<>());
+        inCurrent.addAll(current);
+
+        int savedIndex = 0;
+        int index = 0;
+        while (savedIndex < saved.size() || index < current.size()) {
+            T savedElement = savedIndex < saved.size() ? saved.get(savedIndex) : null;
+            T element = index < current.size() ? current.get(index) : null;
+            if (savedElement != null && savedElement == element) {
+                savedIndex++;
+                index++;
+                continue;
+            }
+
+            boolean isSavedElementKept = savedElement != null && inCurrent.contains(savedElement);
+            boolean isElementNew = element != null && !inSaved.contains(element);
+            if (savedElement != null && !isSavedElementKept && isElementNew) {
+                entries.add(entryFactory.create(Operation.SET, index, element));
+                savedIndex++;
+                index++;
+            } else if (isElementNew) {
+                entries.add(entryFactory.create(Operation.INSERT, index, element));
+                index++;
+            } else {
+                // The saved element was removed, or moved to later in the list, where it is inserted again.
+                entries.add(entryFactory.create(Operation.REMOVE, index, savedElement));
+                inSaved.remove(savedElement);
+                savedIndex++;
+            }
+        }
+    }
+
+    /**
+     * Reads the lines of a stream of UTF-8, keeping count of the bytes read, so that the journal can be truncated
+     * at the end of any line.
+     */
+    private static class LineReader implements Closeable {
+        private final InputStream in;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        private long position;
+        private boolean isLineTerminated;
+
+        LineReader(InputStream in) {
+            this.in = new BufferedInputStream(in, 1 << 16);
+        }
+
+        /**
+         * Returns the next line, without its line terminator, or null at the end of the stream.
+         */
+        String readLine() throws IOException {
+            line.reset();
+            isLineTerminated = false;
+            int read = in.read();
+            if (read < 0) {
+                return null;
+            }
+            while (read >= 0) {
+                position++;
+                if (read == '\n') {
+                    isLineTerminated = true;
+                    break;
+                }
+                line.write(read);
+                read = in.read();
+            }
+
+            byte[] bytes = line.toByteArray();
+            int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+            return new String(bytes, 0, length, UTF_8);
+        }
+
+        /**
+         * Returns true if the last line read ended with a line terminator, rather than at the end of the stream.
+         */
+        boolean isLineTerminated() {
+            return isLineTerminated;
+        }
+
+        /**
+         * Returns the number of bytes read, which is the offset in the file of the start of the next line.
+         */
+        long getPosition() {
+            return position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Backs up an address book to {@code AddressBookBackups} at a fixed interval, in the background.
+ * <p>
+ * At each interval, the address book is copied on the thread that owns it, through the given executor, and the copy
+ * is then backed up on a background thread, so commands do not wait for backups to be written. Intervals in which the
+ * address book has the same version as the last copy handed over are skipped. Failed backups are only logged, and
+ * tried again at the next interval.
+ */
+public class BackupScheduler {
+
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Logger logger = LogsCenter.getLogger(BackupScheduler.class);
+
+    private final AddressBookBackups backups;
+    private final Supplier<ReadOnlyAddressBook> addressBook;
+    private final Executor modelExecutor;
+    private final Duration interval;
+    private final ScheduledExecutorService backupExecutor;
+
+    /** The version of the address book last handed over to be backed up, unless backing it up failed. */
+    private OptionalLong handedOverVersion = OptionalLong.empty();
+
+    /**
+     * Creates a scheduler that backs up the address book given by {@code addressBook} to {@code backups} every
+     * {@code interval}, copying it on {@code modelExecutor}.
+     */
+    public BackupScheduler(AddressBookBackups backups, Supplier<ReadOnlyAddressBook> addressBook,
+            Executor modelExecutor, Duration interval) {
+        this(backups, addressBook, modelExecutor, interval, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-backup");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a scheduler that backs up the address book on {@code backupExecutor}.
+     */
+    BackupScheduler(AddressBookBackups backups, Supplier<ReadOnlyAddressBook> addressBook, Executor modelExecutor,
+            Duration interval, ScheduledExecutorService backupExecutor) {
+        requireAllNonNull(backups, addressBook, modelExecutor, interval, backupExecutor);
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Backup interval must be positive: " + interval);
+        }
+        this.backups = backups;
+        this.addressBook = addressBook;
+        this.modelExecutor = modelExecutor;
+        this.interval = interval;
+        this.backupExecutor = backupExecutor;
+    }
+
+    /**
+     * Starts backing up the address book, first after one interval.
+     */
+    public void start() {
+        backupExecutor.scheduleWithFixedDelay(() -> modelExecutor.execute(this::startBackup),
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops backing up the address book, after waiting for a backup in progress to finish.
+     */
+    public void stop() {
+        backupExecutor.shutdown();
+        try {
+            if (!backupExecutor.awaitTermination(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warning("Background backup did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Copies the address book, if it changed since it was last handed over, and backs up the copy in the background.
+     * Must be called on the thread that owns the address book.
+     */
+    synchronized void startBackup() {
+        ReadOnlyAddressBook current = addressBook.get();
+        if (handedOverVersion.equals(OptionalLong.of(current.getVersion())) || backupExecutor.isShutdown()) {
+            return;
+        }
+        WriteBehindSaver.Snapshot snapshot = new WriteBehindSaver.Snapshot(current);
+        handedOverVersion = OptionalLong.of(snapshot.getVersion());
+        backupExecutor.execute(() -> {
+            try {
+                backups.backUp(snapshot);
+            } catch (IOException e) {
+                logger.warning("Failed to back up address book to " + backups.getDirectory() + ": " + e);
+                synchronized (this) {
+                    handedOverVersion = OptionalLong.empty();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,319 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.PastMedicalHistory;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Reads an address book from a file in the binary format written by {@code BinaryAddressBookWriter}.
+ * <p>
+ * The file is either copied into memory or mapped into memory as a {@link MappedFile}. Either way, the whole file
+ * is checked against its checksum before any record is decoded. Each record is then converted to the
+ * model through its JSON-adapted form, so it is held to exactly the same constraints as a record read from JSON.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_NOT_A_BINARY_FILE = "Not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book format version %1$d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary address book file is damaged: checksum mismatch";
+    public static final String MESSAGE_TRUNCATED = "Binary address book file is damaged: unexpected end of data";
+    public static final String MESSAGE_INVALID_TABLE_INDEX = "Binary address book file is damaged: "
+            + "invalid %1$s index %2$d";
+    public static final String MESSAGE_INVALID_RECORD = "Invalid %1$s #%2$d: %3$s";
+
+    /** The magic number and format version at the start of the file. */
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookReader.class);
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary address book file.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] start = in.readNBytes(Integer.BYTES);
+            return start.length == Integer.BYTES
+                    && ByteBuffer.wrap(start).getInt() == BinaryAddressBookWriter.MAGIC;
+        }
+    }
+
+    /**
+     * Reads the address book in the binary file at {@code filePath}, copying the file into memory first.
+     *
+     * @throws IOException if the file could not be read, or is not an undamaged binary address book file.
+     * @throws IllegalValueException if any record violates the model's constraints, or there are duplicates.
+     */
+    public AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        checkMagic(bytes.length, bytes.length >= Integer.BYTES ? buffer.getInt(0) : 0);
+        int checksumPosition = bytes.length - Integer.BYTES;
+        Checksum checksum = new CRC32C();
+        checksum.update(bytes, 0, checksumPosition);
+        checkChecksum(checksum, buffer.getInt(checksumPosition));
+        return decode(new DataInputStream(new ByteArrayInputStream(bytes, HEADER_SIZE,
+                checksumPosition - HEADER_SIZE)), buffer.getInt(Integer.BYTES), null, null);
+    }
+
+    /**
+     * Reads the address book in the binary file mapped as {@code file}, decoding records straight from the mapping.
+     *
+     * @throws IOException if the file is not an undamaged binary address book file.
+     * @throws IllegalValueException if any record violates the model's constraints, or there are duplicates.
+     */
+    public AddressBook read(MappedFile file) throws IOException, IllegalValueException {
+        return read(file, null);
+    }
+
+    /**
+     * Similar to {@link #read(MappedFile)}, but the past medical history of each person is only decoded from the
+     * mapping when it is needed, through a {@link HydrationCache} of at most {@code cacheCapacity} histories.
+     * The histories are not checked against the model's constraints until then, so they are trusted to be as
+     * valid as when they were written, which the checksum of the file confirms.
+     *
+     * @throws IOException if the file is not an undamaged binary address book file.
+     * @throws IllegalValueException if any record violates the model's constraints, or there are duplicates.
+     */
+    public AddressBook readLazily(MappedFile file, int cacheCapacity) throws IOException, IllegalValueException {
+        requireNonNull(file);
+        return read(file, new HydrationCache<>(file, PastMedicalHistory::new, cacheCapacity));
+    }
+
+    private AddressBook read(MappedFile file, HydrationCache<PastMedicalHistory> pastMedicalHistories)
+            throws IOException, IllegalValueException {
+        requireNonNull(file);
+        checkMagic(file.size(), file.size() >= Integer.BYTES ? file.getInt(0) : 0);
+        long checksumPosition = file.size() - Integer.BYTES;
+        Checksum checksum = new CRC32C();
+        file.update(checksum, 0, checksumPosition);
+        checkChecksum(checksum, file.getInt(checksumPosition));
+        CountingInputStream content = new CountingInputStream(file.newInputStream(HEADER_SIZE, checksumPosition));
+        return decode(new DataInputStream(content), file.getInt(Integer.BYTES), pastMedicalHistories,
+                () -> HEADER_SIZE + content.count);
+    }
+
+    private static void checkMagic(long size, int magic) throws IOException {
+        if (size < HEADER_SIZE + Integer.BYTES || magic != BinaryAddressBookWriter.MAGIC) {
+            throw new IOException(MESSAGE_NOT_A_BINARY_FILE);
+        }
+    }
+
+    private static void checkChecksum(Checksum checksum, int expected) throws IOException {
+        if ((int) checksum.getValue() != expected) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+    }
+
+    /**
+     * Decodes the content between the header and the checksum of a file of format {@code version}.
+     * If {@code pastMedicalHistories} is not null, past medical histories are left to be decoded by it, from their
+     * positions in the file given by {@code position}.
+     */
+    private static AddressBook decode(DataInputStream content, int version,
+            HydrationCache<PastMedicalHistory> pastMedicalHistories, LongSupplier position)
+            throws IOException, IllegalValueException {
+        if (version != BinaryAddressBookWriter.FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        try {
+            return decodeRecords(content, pastMedicalHistories, position);
+        } catch (EOFException e) {
+            throw new IOException(MESSAGE_TRUNCATED, e);
+        }
+    }
+
+    private static AddressBook decodeRecords(DataInputStream content,
+            HydrationCache<PastMedicalHistory> pastMedicalHistories, LongSupplier position)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedTag> tags = readTable(content, JsonAdaptedTag::new);
+        List<JsonAdaptedAllergy> allergies = readTable(content, JsonAdaptedAllergy::new);
+        List<JsonAdaptedMedicine> medicines = readTable(content, JsonAdaptedMedicine::new);
+
+        int personCount = readCount(content);
+        List<DecodedPerson> decodedPersons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            String name = readString(content);
+            String identityNumber = readString(content);
+            String phone = readString(content);
+            String email = readString(content);
+            String address = readString(content);
+            String emergencyContact = readString(content);
+            String dateOfBirth = readString(content);
+            String bloodType = readString(content);
+            String alcoholicRecord = readString(content);
+            String gender = readString(content);
+            String smokingRecord = readString(content);
+            String pastMedicalHistory = null;
+            Supplier<PastMedicalHistory> lazyPastMedicalHistory = null;
+            if (pastMedicalHistories == null) {
+                pastMedicalHistory = readString(content);
+            } else {
+                lazyPastMedicalHistory = new LazyPastMedicalHistory(pastMedicalHistories, position.getAsLong());
+                skipString(content);
+            }
+            List<JsonAdaptedTag> personTags = readIndexed(content, tags, "tag");
+            List<JsonAdaptedAllergy> personAllergies = readIndexed(content, allergies, "allergy");
+            List<JsonAdaptedMedicine> personMedicines = readIndexed(content, medicines, "medicine");
+            decodedPersons.add(new DecodedPerson(new JsonAdaptedPerson(name, identityNumber, phone, email, address,
+                    emergencyContact, personTags, dateOfBirth, bloodType, alcoholicRecord, gender, smokingRecord,
+                    personAllergies, pastMedicalHistory, personMedicines), lazyPastMedicalHistory));
+        }
+
+        int appointmentCount = readCount(content);
+        List<JsonAdaptedAppointment> adaptedAppointments = new ArrayList<>(appointmentCount);
+        for (int i = 0; i < appointmentCount; i++) {
+            adaptedAppointments.add(new JsonAdaptedAppointment(readString(content), readString(content),
+                    readString(content)));
+        }
+
+        // The whole file has been checked against its checksum, so its records are all decoded before any is
+        // converted, and converted in parallel.
+        List<Person> persons = ParallelRecordConverter.convertAll(decodedPersons,
+                decoded -> decoded.person().toModelType(decoded.lazyPastMedicalHistory()), (index, ive) ->
+                        new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "person", index + 1,
+                                ive.getMessage()), ive));
+        List<Appointment> appointments = ParallelRecordConverter.convertAll(adaptedAppointments,
+                JsonAdaptedAppointment::toModelType, (index, ive) -> new IllegalValueException(
+                        String.format(MESSAGE_INVALID_RECORD, "appointment", index + 1, ive.getMessage()), ive));
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            logger.info(e.getMessage());
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.setAppointments(appointments);
+        } catch (DuplicateAppointmentException e) {
+            logger.info(e.getMessage());
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT);
+        }
+        return addressBook;
+    }
+
+    private static <T> List<T> readTable(DataInputStream content, Function<String, T> adapter) throws IOException {
+        int size = readCount(content);
+        List<T> table = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            table.add(adapter.apply(readString(content)));
+        }
+        return table;
+    }
+
+    private static <T> List<T> readIndexed(DataInputStream content, List<T> table, String tableName)
+            throws IOException {
+        int count = readCount(content);
+        List<T> elements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = content.readInt();
+            if (index < 0 || index >= table.size()) {
+                throw new IOException(String.format(MESSAGE_INVALID_TABLE_INDEX, tableName, index));
+            }
+            elements.add(table.get(index));
+        }
+        return elements;
+    }
+
+    /**
+     * Reads a count of the items that follow, each taking at least 4 bytes, so a damaged count cannot cause more to
+     * be allocated than the file could hold.
+     */
+    private static int readCount(DataInputStream content) throws IOException {
+        int count = content.readInt();
+        if (count < 0 || count > content.available() / Integer.BYTES) {
+            throw new IOException(MESSAGE_TRUNCATED);
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream content) throws IOException {
+        byte[] bytes = new byte[readStringLength(content)];
+        content.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static void skipString(DataInputStream content) throws IOException {
+        content.skipNBytes(readStringLength(content));
+    }
+
+    private static int readStringLength(DataInputStream content) throws IOException {
+        int length = content.readInt();
+        if (length < 0 || length > content.available()) {
+            throw new IOException(MESSAGE_TRUNCATED);
+        }
+        return length;
+    }
+
+    /**
+     * A person as decoded from the file, with its past medical history left to be decoded later if
+     * {@code lazyPastMedicalHistory} is not null.
+     */
+    private record DecodedPerson(JsonAdaptedPerson person, Supplier<PastMedicalHistory> lazyPastMedicalHistory) {}
+
+    /**
+     * A stream that counts the bytes read or skipped from it, so that the position of each string is known.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int read = super.read(bytes, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long length) throws IOException {
+            long skipped = super.skip(length);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
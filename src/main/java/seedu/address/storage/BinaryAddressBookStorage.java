@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * A JSON address book file found where a binary file is expected is read as JSON, and is replaced by a binary file
+ * at the next save, so switching an existing data file to the binary format only takes changing the preference.
+ * {@link JsonAddressBookStorage} likewise reads a binary file, to switch back.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final BinaryAddressBookWriter writer = new BinaryAddressBookWriter();
+    private final boolean isMemoryMapped;
+    private final boolean isLazilyLoaded;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the address book at {@code filePath}, read through a {@link MappedFile} if
+     * {@code isMemoryMapped} and the platform allows it, or copied into memory otherwise.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isMemoryMapped) {
+        this(filePath, isMemoryMapped, false);
+    }
+
+    /**
+     * Creates a storage for the address book at {@code filePath}, read as by
+     * {@link #BinaryAddressBookStorage(Path, boolean)}. If {@code isLazilyLoaded}, the file is always mapped, and
+     * the past medical history of each person is only read from the mapping when it is needed. Past medical histories
+     * are read with the rest of the file where files cannot be mapped, as a mapped file could then not be replaced.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isMemoryMapped, boolean isLazilyLoaded) {
+        this.filePath = filePath;
+        this.isMemoryMapped = MappedFile.isMappable(isMemoryMapped);
+        this.isLazilyLoaded = MappedFile.isMappable(isLazilyLoaded);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!BinaryAddressBookReader.isBinaryFile(filePath)) {
+                logger.info(filePath + " is not a binary file, reading it as JSON to convert it at the next save");
+                return Optional.of(isMemoryMapped
+                        ? new JsonAddressBookReader().read(MappedFile.map(filePath))
+                        : new JsonAddressBookReader().read(filePath));
+            }
+            if (isLazilyLoaded) {
+                return Optional.of(new BinaryAddressBookReader().readLazily(MappedFile.map(filePath),
+                        HydrationCache.DEFAULT_CAPACITY));
+            }
+            return Optional.of(isMemoryMapped
+                    ? new BinaryAddressBookReader().read(MappedFile.map(filePath))
+                    : new BinaryAddressBookReader().read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written to a temporary file that then replaces it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        writer.write(addressBook, filePath);
+    }
+
+}
@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StoredPastMedicalHistory;
+
+/**
+ * Writes an address book to a file in a compact binary format, read by {@code BinaryAddressBookReader}.
+ * <p>
+ * All numbers are 4-byte big-endian integers, and a string is its length in bytes followed by its UTF-8 encoding.
+ * The file holds, in order:
+ * <ol>
+ *     <li>{@link #MAGIC} and {@link #FORMAT_VERSION}.</li>
+ *     <li>A table of the distinct tags, then of the distinct allergies, then of the distinct medicines, each as a
+ *     count followed by that many strings.</li>
+ *     <li>The number of persons, then each person as the strings of its fields, in the order of
+ *     {@link #writePerson}, followed by its tags, allergies and medicines, each as a count followed by that many
+ *     indexes into the matching table.</li>
+ *     <li>The number of appointments, then each appointment as the strings of its patient ID, time and notes.</li>
+ *     <li>The CRC-32C of every byte before it.</li>
+ * </ol>
+ * Tags, allergies and medicines repeat across many patients, so each is written once however many patients have it.
+ */
+class BinaryAddressBookWriter {
+
+    /** The first 4 bytes of every binary address book file, which are "HNAB" in ASCII. */
+    public static final int MAGIC = 0x484E4142;
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing the file if it exists.
+     * The file keeps its old content if writing fails part way.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> write(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, and closes it.
+     *
+     * @throws IOException if the stream could not be written.
+     */
+    public void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> tagIndexes = indexDistinct(persons, person -> names(person.getTags(), tag -> tag.tagName));
+        Map<String, Integer> allergyIndexes = indexDistinct(persons,
+                person -> names(person.getAllergies(), allergy -> allergy.allergyName));
+        Map<String, Integer> medicineIndexes = indexDistinct(persons,
+                person -> names(person.getMedicines(), medicine -> medicine.medicine));
+
+        Checksum checksum = new CRC32C();
+        try (DataOutputStream data = new DataOutputStream(
+                new BufferedOutputStream(new CheckedOutputStream(out, checksum), BUFFER_SIZE))) {
+            data.writeInt(MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            writeTable(data, tagIndexes);
+            writeTable(data, allergyIndexes);
+            writeTable(data, medicineIndexes);
+
+            data.writeInt(persons.size());
+            for (Person person : persons) {
+                writePerson(data, person);
+                writeIndexes(data, names(person.getTags(), tag -> tag.tagName), tagIndexes);
+                writeIndexes(data, names(person.getAllergies(), allergy -> allergy.allergyName), allergyIndexes);
+                writeIndexes(data, names(person.getMedicines(), medicine -> medicine.medicine), medicineIndexes);
+            }
+
+            List<Appointment> appointments = addressBook.getAppointmentList();
+            data.writeInt(appointments.size());
+            for (Appointment appointment : appointments) {
+                writeString(data, appointment.getPatientId().identityNumber);
+                writeString(data, appointment.getDateTime().toString());
+                writeString(data, appointment.getNotes().toString());
+            }
+
+            // Everything written so far must reach the checksum before its value is read.
+            data.flush();
+            data.writeInt((int) checksum.getValue());
+        }
+    }
+
+    /**
+     * Writes the fields of {@code person} other than its tags, allergies and medicines, in the same form as
+     * {@code JsonAdaptedPerson}.
+     */
+    private static void writePerson(DataOutputStream data, Person person) throws IOException {
+        writeString(data, person.getName().fullName);
+        writeString(data, person.getIdentityNumber().identityNumber);
+        writeString(data, person.getPhone().value);
+        writeString(data, person.getEmail().value);
+        writeString(data, person.getAddress().value);
+        writeString(data, person.getEmergencyContact().toString());
+        writeString(data, person.getDateOfBirth().toString());
+        writeString(data, person.getBloodType().bloodType);
+        writeString(data, person.getAlcoholicRecord().alcoholicRecord);
+        writeString(data, person.getGender().gender);
+        writeString(data, person.getSmokingRecord().toString());
+        Optional<StoredPastMedicalHistory> storedPastMedicalHistory = person.getStoredPastMedicalHistory();
+        if (storedPastMedicalHistory.isPresent()
+                && storedPastMedicalHistory.get() instanceof LazyPastMedicalHistory lazyPastMedicalHistory) {
+            // Written in the same form as it was read, so it is copied without being decoded.
+            lazyPastMedicalHistory.copyStoredString(data);
+        } else {
+            writeString(data, person.getPastMedicalHistory().value);
+        }
+    }
+
+    private static <T> List<String> names(Collection<T> elements, Function<T, String> nameOf) {
+        List<String> names = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            names.add(nameOf.apply(element));
+        }
+        return names;
+    }
+
+    /**
+     * Returns the distinct strings of all {@code persons}, each mapped to its index in the order first seen.
+     */
+    private static Map<String, Integer> indexDistinct(List<Person> persons, Function<Person, List<String>> stringsOf) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (Person person : persons) {
+            for (String string : stringsOf.apply(person)) {
+                indexes.putIfAbsent(string, indexes.size());
+            }
+        }
+        return indexes;
+    }
+
+    private static void writeTable(DataOutputStream data, Map<String, Integer> indexes) throws IOException {
+        String[] table = new String[indexes.size()];
+        indexes.forEach((string, index) -> table[index] = string);
+        data.writeInt(table.length);
+        for (String string : table) {
+            writeString(data, string);
+        }
+    }
+
+    private static void writeIndexes(DataOutputStream data, List<String> strings, Map<String, Integer> indexes)
+            throws IOException {
+        data.writeInt(strings.size());
+        for (String string : strings) {
+            data.writeInt(indexes.get(string));
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Values stored as strings in a binary address book file that are decoded from the file only when they are needed,
+ * with the most recently used values kept in a least-recently-used cache.
+ * <p>
+ * The file stays mapped for as long as any value of it may still be needed, so values can still be decoded after the
+ * file has been replaced by a newer one. The strings are decoded without checking the file again, so they must be
+ * from a file that has been checked against its checksum.
+ *
+ * @param <T> the type of the values.
+ */
+class HydrationCache<T> {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final MappedFile file;
+    private final Function<String, T> hydrate;
+    private final Map<Long, T> values;
+
+    /**
+     * Creates a cache of at most {@code capacity} values converted by {@code hydrate} from the strings in
+     * {@code file}.
+     */
+    public HydrationCache(MappedFile file, Function<String, T> hydrate, int capacity) {
+        requireNonNull(file);
+        requireNonNull(hydrate);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.file = file;
+        this.hydrate = hydrate;
+        this.values = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, T> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value of the string at {@code offset} in the file, which is a length in bytes followed by that many
+     * bytes of UTF-8, decoding it if it is not in the cache.
+     */
+    public synchronized T get(long offset) {
+        return values.computeIfAbsent(offset, unused -> hydrate.apply(decodeString(offset)));
+    }
+
+    /**
+     * Returns the string at {@code offset} in the file, without converting it to a value or caching it.
+     */
+    public String getString(long offset) {
+        return decodeString(offset);
+    }
+
+    /**
+     * Copies the string at {@code offset} in the file to {@code out} as it is stored, as a length in bytes followed
+     * by that many bytes of UTF-8, without decoding it.
+     *
+     * @throws IOException if {@code out} could not be written to.
+     */
+    public void copyStoredString(long offset, OutputStream out) throws IOException {
+        long end = offset + Integer.BYTES + file.getInt(offset);
+        file.newInputStream(offset, end).transferTo(out);
+    }
+
+    /**
+     * Returns the number of values in the cache.
+     */
+    public synchronized int size() {
+        return values.size();
+    }
+
+    private String decodeString(long offset) {
+        long start = offset + Integer.BYTES;
+        try {
+            return new String(file.newInputStream(start, start + file.getInt(offset)).readAllBytes(), UTF_8);
+        } catch (IOException e) {
+            // Streams of a mapped file are read from memory, and cannot fail.
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file, in the format of another {@code AddressBookStorage},
+ * and a journal of the changes made since the snapshot was written, on the hard disk.
+ * <p>
+ * Saving appends only the persons and appointments that were added, replaced or removed since the last save to the
+ * journal, rather than rewriting the whole snapshot. The journal is kept next to the snapshot, in a file with the
+ * same name followed by {@value #JOURNAL_FILE_SUFFIX}.
+ * <p>
+ * Once the journal holds more than a maximum number of entries or bytes, the address book being saved is written as
+ * a new snapshot and the journal is deleted, so that replaying the journal at startup stays quick. The new snapshot
+ * replaces the old one atomically, so a crash while compacting leaves either the old snapshot and its journal, or
+ * the new snapshot.
+ * <p>
+ * Storages that do not journal read only the snapshot, so a journal left by this storage must be compacted with
+ * {@link #compactJournal(AddressBookStorage, boolean)} before the address book is read by any other storage.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_MAX_JOURNAL_ENTRIES = 1000;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final AddressBookStorage snapshotStorage;
+    private final AddressBookJournal journal;
+    private final int maxJournalEntries;
+    private final long maxJournalBytes;
+    private final boolean isMemoryMapped;
+
+    /** The lists as last saved to or read from {@code filePath}, or null if they are not known. */
+    private List<Person> savedPersons;
+    private List<Appointment> savedAppointments;
+    private int journalEntryCount;
+    /** The time taken to replay each journal entry when the address book was last read, or 0 if not known. */
+    private double replayNanosPerEntry;
+
+    /**
+     * Creates a storage for the address book at {@code filePath}, with its snapshot saved indented if
+     * {@code isPrettyPrinted}, or compactly otherwise.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(new JsonAddressBookStorage(filePath, isPrettyPrinted));
+    }
+
+    /**
+     * Creates a storage for the address book at the file of {@code snapshotStorage}, with its snapshot read and
+     * saved by {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, false);
+    }
+
+    /**
+     * Creates a storage for the address book at the file of {@code snapshotStorage}, with its snapshot read and
+     * saved by {@code snapshotStorage}, and its journal replayed through a {@link MappedFile} if
+     * {@code isMemoryMapped}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, boolean isMemoryMapped) {
+        this(snapshotStorage, DEFAULT_MAX_JOURNAL_ENTRIES, DEFAULT_MAX_JOURNAL_BYTES, isMemoryMapped);
+    }
+
+    /**
+     * Creates a storage that compacts its journal once it has more than {@code maxJournalEntries} entries or
+     * {@code maxJournalBytes} bytes.
+     */
+    JournaledAddressBookStorage(Path filePath, boolean isPrettyPrinted, int maxJournalEntries, long maxJournalBytes) {
+        this(new JsonAddressBookStorage(filePath, isPrettyPrinted), maxJournalEntries, maxJournalBytes, false);
+    }
+
+    private JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int maxJournalEntries,
+            long maxJournalBytes, boolean isMemoryMapped) {
+        requireNonNull(snapshotStorage.getAddressBookFilePath());
+        this.filePath = snapshotStorage.getAddressBookFilePath();
+        this.snapshotStorage = snapshotStorage;
+        this.isMemoryMapped = isMemoryMapped;
+        this.journal = journalOf(filePath);
+        this.maxJournalEntries = maxJournalEntries;
+        this.maxJournalBytes = maxJournalBytes;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The snapshot at {@code filePath} is read first, and the changes in its journal are then applied to it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        AddressBookJournal journal = journalOf(filePath);
+        deleteIfOutOfDate(journal);
+        if (!journal.exists()) {
+            // Data read from elsewhere, such as from segments, is saved as a snapshot before it is journaled.
+            if (Files.exists(filePath)) {
+                snapshot.ifPresent(addressBook -> rememberSaved(filePath, addressBook));
+            }
+            if (filePath.equals(this.filePath)) {
+                journalEntryCount = 0;
+            }
+            return snapshot;
+        }
+
+        ReadOnlyAddressBook base = snapshot.orElseGet(AddressBook::new);
+        List<Person> persons = new ArrayList<>(base.getPersonList());
+        List<Appointment> appointments = new ArrayList<>(base.getAppointmentList());
+        AddressBook addressBook = new AddressBook();
+        int entryCount;
+        try {
+            long startTime = System.nanoTime();
+            entryCount = journal.replay(persons, appointments);
+            long replayNanos = System.nanoTime() - startTime;
+            logger.info(String.format("Applied %d journal entries from %s in %d ms", entryCount,
+                    journal.getFilePath(), TimeUnit.NANOSECONDS.toMillis(replayNanos)));
+            if (filePath.equals(this.filePath) && entryCount > 0) {
+                replayNanosPerEntry = (double) replayNanos / entryCount;
+            }
+            setLists(addressBook, persons, appointments);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journal.getFilePath() + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journal.getFilePath() + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        rememberSaved(filePath, addressBook);
+        if (filePath.equals(this.filePath)) {
+            journalEntryCount = entryCount;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the address book was last saved to or read from this storage's own file are appended
+     * to its journal. The address book is saved to any other file as a snapshot, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath) || savedPersons == null) {
+            saveSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = AddressBookJournal.changesBetween(savedPersons, savedAppointments,
+                addressBook.getPersonList(), addressBook.getAppointmentList());
+        try {
+            journal.append(entries);
+        } catch (IOException e) {
+            // The journal may end with some of the entries, so the next save starts again from a snapshot.
+            forgetSaved();
+            throw e;
+        }
+        rememberSaved(filePath, addressBook);
+        journalEntryCount += entries.size();
+
+        if (journalEntryCount > maxJournalEntries || journal.size() > maxJournalBytes) {
+            compact(addressBook);
+        }
+    }
+
+    /**
+     * Applies the changes in the journal of the snapshot of {@code snapshotStorage} to the snapshot, and deletes
+     * the journal, so that the address book can be read from the snapshot alone. Does nothing if there is no journal.
+     *
+     * @return true if a journal was compacted.
+     * @throws DataLoadingException if the snapshot or the journal could not be read.
+     * @throws IOException if the new snapshot could not be saved.
+     */
+    public static boolean compactJournal(AddressBookStorage snapshotStorage, boolean isMemoryMapped)
+            throws DataLoadingException, IOException {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(snapshotStorage, isMemoryMapped);
+        if (!storage.journal.exists()) {
+            return false;
+        }
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+        // A journal that is out of date is deleted when the address book is read.
+        if (!storage.journal.exists()) {
+            return false;
+        }
+        logger.info("Compacting journal file " + storage.journal.getFilePath() + " into its snapshot");
+        storage.saveSnapshot(addressBook.orElseGet(AddressBook::new), storage.filePath);
+        return true;
+    }
+
+    /**
+     * Returns the number of entries in the journal of this storage's own file, as far as is known.
+     */
+    int getJournalEntryCount() {
+        return journalEntryCount;
+    }
+
+    /**
+     * Replaces the snapshot with {@code addressBook}, which must be the address book just saved to the journal,
+     * and deletes the journal. The address book is already saved in the journal, so failing to compact is only
+     * logged.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) {
+        int entryCount = journalEntryCount;
+        long startTime = System.nanoTime();
+        long journalBytes;
+        try {
+            journalBytes = journal.size();
+            saveSnapshot(addressBook, filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal file " + journal.getFilePath() + ": " + e);
+            return;
+        }
+        long compactionMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        String message = String.format("Compacted %d journal entries (%d bytes) into a new snapshot in %d ms",
+                entryCount, journalBytes, compactionMillis);
+        if (replayNanosPerEntry > 0) {
+            message += String.format(", saving about %d ms of replay at startup",
+                    TimeUnit.NANOSECONDS.toMillis((long) (replayNanosPerEntry * entryCount)));
+        }
+        logger.info(message);
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} as a snapshot, and deletes the journal that followed the
+     * previous snapshot there.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        // Once the snapshot is replaced, and until the journal is deleted, appending to the journal would not survive
+        // the next read.
+        if (filePath.equals(this.filePath)) {
+            forgetSaved();
+        }
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        journalOf(filePath).delete();
+        rememberSaved(filePath, addressBook);
+        if (filePath.equals(this.filePath)) {
+            journalEntryCount = 0;
+        }
+    }
+
+    /**
+     * Deletes {@code journal} if its changes are already part of its snapshot, or it has no snapshot.
+     */
+    private static void deleteIfOutOfDate(AddressBookJournal journal) throws DataLoadingException {
+        try {
+            if (journal.exists() && !journal.isCurrent()) {
+                logger.warning("Deleting journal file " + journal.getFilePath() + " that is older than its snapshot");
+                journal.delete();
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journal.getFilePath() + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private void rememberSaved(Path filePath, ReadOnlyAddressBook addressBook) {
+        if (filePath.equals(this.filePath)) {
+            savedPersons = List.copyOf(addressBook.getPersonList());
+            savedAppointments = List.copyOf(addressBook.getAppointmentList());
+        }
+    }
+
+    private void forgetSaved() {
+        savedPersons = null;
+        savedAppointments = null;
+    }
+
+    private AddressBookJournal journalOf(Path filePath) {
+        return new AddressBookJournal(filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX),
+                filePath, isMemoryMapped);
+    }
+
+    /**
+     * Sets the lists of {@code addressBook} to {@code persons} and {@code appointments}.
+     *
+     * @throws IllegalValueException if either list has duplicates.
+     */
+    static void setLists(AddressBook addressBook, List<Person> persons, List<Appointment> appointments)
+            throws IllegalValueException {
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.setAppointments(appointments);
+        } catch (DuplicateAppointmentException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT);
+        }
+    }
+}
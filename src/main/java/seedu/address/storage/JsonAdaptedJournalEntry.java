@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to the list of persons or appointments of an address book, as recorded
+ * in an {@code AddressBookJournal}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Unknown journal operation: %s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal %1$s index %2$d is out of bounds";
+    public static final String MESSAGE_MISSING_RECORD = "Journal %s entry is missing its record";
+    public static final String MESSAGE_REMOVED_RECORD_MISMATCH =
+            "Journal removes a %1$s that is not at index %2$d; the data file may have been replaced";
+
+    /**
+     * A change to a list at an index.
+     */
+    public enum Operation {
+        INSERT, SET, REMOVE
+    }
+
+    private final String op;
+    private final int index;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedAppointment appointment;
+    private final Boolean commit;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    public JsonAdaptedJournalEntry(String op, int index, JsonAdaptedPerson person,
+            JsonAdaptedAppointment appointment) {
+        this(op, index, person, appointment, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details, that commits itself and the entries
+     * before it if {@code commit} is true.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("index") int index,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("appointment") JsonAdaptedAppointment appointment,
+            @JsonProperty("commit") Boolean commit) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+        this.appointment = appointment;
+        this.commit = commit;
+    }
+
+    /**
+     * Returns an entry that applies {@code operation} at {@code index} of the list of persons, where {@code person}
+     * is the inserted, new or removed person.
+     */
+    public static JsonAdaptedJournalEntry ofPerson(Operation operation, int index, Person person) {
+        return new JsonAdaptedJournalEntry(operation.name(), index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry that applies {@code operation} at {@code index} of the list of appointments, where
+     * {@code appointment} is the inserted, new or removed appointment.
+     */
+    public static JsonAdaptedJournalEntry ofAppointment(Operation operation, int index, Appointment appointment) {
+        return new JsonAdaptedJournalEntry(operation.name(), index, null, new JsonAdaptedAppointment(appointment));
+    }
+
+    /**
+     * Returns a copy of this entry that commits itself and every uncommitted entry before it in the journal.
+     */
+    public JsonAdaptedJournalEntry committing() {
+        return new JsonAdaptedJournalEntry(op, index, person, appointment, true);
+    }
+
+    /**
+     * Returns true if this entry commits itself and every uncommitted entry before it in the journal.
+     */
+    public boolean isCommit() {
+        return Boolean.TRUE.equals(commit);
+    }
+
+    /**
+     * Applies this change to the list of {@code persons} or {@code appointments} that it was recorded for.
+     *
+     * @throws IllegalValueException if the entry is malformed, its index is out of bounds, or its record violates
+     *                               the model's constraints.
+     */
+    public void applyTo(List<Person> persons, List<Appointment> appointments) throws IllegalValueException {
+        Operation operation = toOperation();
+        if (person != null) {
+            apply(operation, persons, person.toModelType(), "person");
+        } else if (appointment != null) {
+            apply(operation, appointments, appointment.toModelType(), "appointment");
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORD, op));
+        }
+    }
+
+    private Operation toOperation() throws IllegalValueException {
+        try {
+            return Operation.valueOf(String.valueOf(op));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    /**
+     * Applies {@code operation} to {@code list}. For removals, {@code record} must be the element being removed, so
+     * that a journal replayed on top of a different snapshot than it was recorded for is detected.
+     */
+    private <T> void apply(Operation operation, List<T> list, T record, String listName)
+            throws IllegalValueException {
+        int bound = operation == Operation.INSERT ? list.size() : list.size() - 1;
+        if (index < 0 || index > bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, listName, index));
+        }
+
+        switch (operation) {
+        case INSERT:
+            list.add(index, record);
+            break;
+        case SET:
+            list.set(index, record);
+            break;
+        default:
+            if (!list.get(index).equals(record)) {
+                throw new IllegalValueException(String.format(MESSAGE_REMOVED_RECORD_MISMATCH, listName, index));
+            }
+            list.remove(index);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly record of the snapshot file that an {@code AddressBookJournal} was started for, and of whether the
+ * entries of the journal are grouped into transactions.
+ */
+public class JsonAdaptedJournalHeader {
+    private final long snapshotSize;
+    private final long snapshotModified;
+    private final String snapshotChecksum;
+    private final boolean transactional;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} for a snapshot file of {@code snapshotSize} bytes, last
+     * modified at {@code snapshotModified} milliseconds since the epoch, with the CRC-32C {@code snapshotChecksum}
+     * of its content. Journals written before checksums were added have no {@code snapshotChecksum} field, which is
+     * read as null, and journals written before transactions were added have no {@code transactional} field, which
+     * is read as false.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+            @JsonProperty("snapshotModified") long snapshotModified,
+            @JsonProperty("snapshotChecksum") String snapshotChecksum,
+            @JsonProperty("transactional") boolean transactional) {
+        this.snapshotSize = snapshotSize;
+        this.snapshotModified = snapshotModified;
+        this.snapshotChecksum = snapshotChecksum;
+        this.transactional = transactional;
+    }
+
+    /**
+     * Returns true if the entries of the journal only take effect once a later entry commits them.
+     */
+    public boolean isTransactional() {
+        return transactional;
+    }
+
+    /**
+     * Returns true if {@code other} records the same snapshot file as this header. Snapshots are told apart by their
+     * checksums, or by their modification times if either header has no checksum.
+     */
+    public boolean isOfSameSnapshot(JsonAdaptedJournalHeader other) {
+        if (other == null || snapshotSize != other.snapshotSize) {
+            return false;
+        }
+        if (snapshotChecksum != null && other.snapshotChecksum != null) {
+            return snapshotChecksum.equals(other.snapshotChecksum);
+        }
+        return snapshotModified == other.snapshotModified;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JsonAdaptedJournalHeader)) {
+            return false;
+        }
+
+        JsonAdaptedJournalHeader otherHeader = (JsonAdaptedJournalHeader) other;
+        return snapshotSize == otherHeader.snapshotSize
+                && snapshotModified == otherHeader.snapshotModified
+                && Objects.equals(snapshotChecksum, otherHeader.snapshotChecksum)
+                && transactional == otherHeader.transactional;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(snapshotSize, snapshotModified, snapshotChecksum, transactional);
+    }
+}
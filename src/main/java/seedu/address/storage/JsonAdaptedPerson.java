@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -27,6 +28,7 @@ import seedu.address.model.person.PastMedicalHistory;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.SmokingRecord;
+import seedu.address.model.person.StoredPastMedicalHistory;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -107,7 +109,9 @@ class JsonAdaptedPerson {
         alcoholicRecord = source.getAlcoholicRecord().alcoholicRecord;
         gender = source.getGender().gender;
         smokingRecord = source.getSmokingRecord().toString();
-        pastMedicalHistory = source.getPastMedicalHistory().value;
+        pastMedicalHistory = source.getStoredPastMedicalHistory()
+                .map(StoredPastMedicalHistory::getStoredValue)
+                .orElseGet(() -> source.getPastMedicalHistory().value);
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -127,6 +131,14 @@ class JsonAdaptedPerson {
      *                               the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but if {@code lazyPastMedicalHistory} is not null, the person's past medical
+     * history is obtained from it whenever it is needed, instead of being converted from this adapted person.
+     */
+    Person toModelType(Supplier<PastMedicalHistory> lazyPastMedicalHistory) throws IllegalValueException {
         final Logger logger = LogsCenter.getLogger(JsonAdaptedPerson.class);
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
@@ -241,6 +253,18 @@ class JsonAdaptedPerson {
         }
         final Gender modelGender = new Gender(gender);
 
+        final Set<Tag> modelTags = new HashSet<>(personTags);
+
+        final Set<Medicine> modelMedicines = new HashSet<>(personMedicines);
+
+        final Set<Allergy> modelAllergies = new HashSet<>(personAllergies);
+
+        if (lazyPastMedicalHistory != null) {
+            return new Person(modelName, modelIdentityNumber, modelPhone, modelEmail, modelAddress,
+                    modelEmergencyContact, modelTags, dob, modelBloodType, modelAlcoholicRecord, modelGender,
+                    modelSmokingRecord, modelAllergies, lazyPastMedicalHistory, modelMedicines);
+        }
+
         if (pastMedicalHistory == null) {
             logger.warning(() -> String.format("JsonAdaptedPerson: missing PastMedicalHistory for name='%s'", name));
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -251,12 +275,6 @@ class JsonAdaptedPerson {
         }
         final PastMedicalHistory modelPastMedicalHistory = new PastMedicalHistory(pastMedicalHistory);
 
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-
-        final Set<Medicine> modelMedicines = new HashSet<>(personMedicines);
-
-        final Set<Allergy> modelAllergies = new HashSet<>(personAllergies);
-
         return new Person(modelName, modelIdentityNumber, modelPhone, modelEmail, modelAddress, modelEmergencyContact,
                 modelTags, dob, modelBloodType, modelAlcoholicRecord, modelGender, modelSmokingRecord,
                 modelAllergies, modelPastMedicalHistory, modelMedicines);
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of the segment files that make up a segmented address book: the file of persons, and the
+ * file of appointments of each month. Segments are only read through the manifest that names them, so the manifest
+ * decides which files hold the address book.
+ */
+class JsonAdaptedSegmentManifest {
+
+    public static final String MESSAGE_INVALID_MONTH = "Segment manifest has an invalid month: %s";
+    public static final String MESSAGE_MISSING_PERSONS = "Segment manifest does not name a file of persons";
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM");
+
+    private final long generation;
+    private final String persons;
+    private final Map<String, String> appointments = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentManifest} of the segments written by save number {@code generation},
+     * with the file of persons named {@code persons}, and the files of appointments named by their months.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("persons") String persons,
+            @JsonProperty("appointments") Map<String, String> appointments) {
+        this.generation = generation;
+        this.persons = persons;
+        if (appointments != null) {
+            this.appointments.putAll(appointments);
+        }
+    }
+
+    /**
+     * Converts the given segment file names into this class for Jackson use.
+     */
+    public JsonAdaptedSegmentManifest(long generation, String persons, NavigableMap<YearMonth, String> appointments) {
+        requireNonNull(persons);
+        this.generation = generation;
+        this.persons = persons;
+        appointments.forEach((month, fileName) -> this.appointments.put(MONTH_FORMATTER.format(month), fileName));
+    }
+
+    /**
+     * Returns the number of the save that wrote the segments, which is larger for every later save.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the name of the file of persons.
+     *
+     * @throws IllegalValueException if the manifest does not name one.
+     */
+    public String getPersonsFileName() throws IllegalValueException {
+        if (persons == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSONS);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the names of the files of appointments, by month in chronological order.
+     *
+     * @throws IllegalValueException if a month is invalid.
+     */
+    public NavigableMap<YearMonth, String> getAppointmentsFileNames() throws IllegalValueException {
+        NavigableMap<YearMonth, String> fileNames = new TreeMap<>();
+        for (Map.Entry<String, String> month : appointments.entrySet()) {
+            try {
+                fileNames.put(YearMonth.parse(month.getKey(), MONTH_FORMATTER), month.getValue());
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_MONTH, month.getKey()), e);
+            }
+        }
+        return fileNames;
+    }
+
+    /**
+     * Returns the names of every segment file, the file of persons first and then the files of appointments in
+     * chronological order.
+     *
+     * @throws IllegalValueException if the manifest is invalid.
+     */
+    public List<String> getFileNames() throws IllegalValueException {
+        List<String> fileNames = new ArrayList<>();
+        fileNames.add(getPersonsFileName());
+        fileNames.addAll(getAppointmentsFileNames().values());
+        return fileNames;
+    }
+}
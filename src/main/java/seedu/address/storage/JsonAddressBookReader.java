@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Reads an address book from a JSON file in the format written for {@code JsonSerializableAddressBook}, converting
+ * each person and appointment to the model as soon as it is read.
+ * <p>
+ * Records are held in their JSON form only a batch at a time, so reading takes memory proportional to the address
+ * book rather than to the file. Each batch is converted in parallel by {@link ParallelRecordConverter}. Records that
+ * violate the model's constraints are reported with their position in the file.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_INVALID_RECORD = "Invalid %1$s #%2$d at line %3$d, column %4$d: %5$s";
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Expected an address book object";
+    public static final String MESSAGE_NOT_A_RECORD_LIST = "Expected a list of %1$ss";
+
+    /** The number of records read in their JSON form before they are converted together. */
+    private static final int BATCH_SIZE = 8192;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+
+    /**
+     * Reads the address book in the JSON file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not an address book in JSON format.
+     * @throws IllegalValueException if any record violates the model's constraints, or there are duplicates.
+     */
+    public AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        return read(JsonUtil.createParser(filePath));
+    }
+
+    /**
+     * Reads the address book in the JSON file mapped as {@code file}, parsing it straight from the mapping.
+     *
+     * @throws IOException if the file is not an address book in JSON format.
+     * @throws IllegalValueException if any record violates the model's constraints, or there are duplicates.
+     */
+    public AddressBook read(MappedFile file) throws IOException, IllegalValueException {
+        requireNonNull(file);
+        return read(JsonUtil.createParser(file.newInputStream()));
+    }
+
+    /**
+     * Reads the address book that {@code parser} is at the start of, and closes the parser.
+     */
+    private static AddressBook read(JsonParser jsonParser) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        List<Appointment> appointments = new ArrayList<>();
+
+        try (JsonParser parser = jsonParser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "persons":
+                    readRecords(parser, "person", persons, JsonAdaptedPerson.class, JsonAdaptedPerson::toModelType);
+                    break;
+                case "appointments":
+                    readRecords(parser, "appointment", appointments, JsonAdaptedAppointment.class,
+                            JsonAdaptedAppointment::toModelType);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            logger.info(e.getMessage());
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.setAppointments(appointments);
+        } catch (DuplicateAppointmentException e) {
+            logger.info(e.getMessage());
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the list of records that {@code parser} is at the start of, adding each record to {@code records}.
+     */
+    private static <R, T> void readRecords(JsonParser parser, String recordName, List<T> records, Class<R> recordClass,
+            ParallelRecordConverter.Conversion<R, T> conversion) throws IOException, IllegalValueException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_A_RECORD_LIST, recordName));
+        }
+        List<R> batch = new ArrayList<>();
+        List<JsonLocation> locations = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            locations.add(parser.currentTokenLocation());
+            try {
+                batch.add(parser.readValueAs(recordClass));
+            } catch (IOException e) {
+                // A record earlier in the file that violates the constraints is reported first.
+                convertBatch(recordName, batch, locations, records, conversion);
+                throw e;
+            }
+            if (batch.size() == BATCH_SIZE) {
+                convertBatch(recordName, batch, locations, records, conversion);
+            }
+        }
+        convertBatch(recordName, batch, locations, records, conversion);
+    }
+
+    /**
+     * Converts the records in {@code batch}, read at {@code locations}, adding them to {@code records}. Both the
+     * batch and the locations are then cleared.
+     */
+    private static <R, T> void convertBatch(String recordName, List<R> batch, List<JsonLocation> locations,
+            List<T> records, ParallelRecordConverter.Conversion<R, T> conversion) throws IllegalValueException {
+        int firstRecordNumber = records.size() + 1;
+        records.addAll(ParallelRecordConverter.convertAll(batch, conversion, (index, ive) ->
+                new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, recordName, firstRecordNumber + index,
+                        locations.get(index).getLineNr(), locations.get(index).getColumnNr(), ive.getMessage()), ive)));
+        batch.clear();
+        locations.clear();
+    }
+}
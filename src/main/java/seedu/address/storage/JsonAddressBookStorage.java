@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,21 +11,43 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * The file is replaced atomically when saved, and ends with a {@link JsonChecksum} of its content that is checked
+ * when it is read. A binary address book file, as written by {@link BinaryAddressBookStorage}, is also read, and is
+ * replaced by a JSON file at the next save.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final JsonAddressBookWriter writer;
+    private final boolean isMemoryMapped;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the address book at {@code filePath}, saved indented if {@code isPrettyPrinted}, or
+     * compactly otherwise.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, false);
+    }
+
+    /**
+     * Creates a storage for the address book at {@code filePath}, saved indented if {@code isPrettyPrinted}, and
+     * read through a {@link MappedFile} if {@code isMemoryMapped} and the platform allows it.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, boolean isMemoryMapped) {
         this.filePath = filePath;
+        this.writer = new JsonAddressBookWriter(isPrettyPrinted);
+        this.isMemoryMapped = MappedFile.isMappable(isMemoryMapped);
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +61,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is read as a stream, converting each record to the model as it is read. A file whose checksum does
+     * not match its content, such as one edited by hand, is still read if its records are valid.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,20 +70,40 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            if (BinaryAddressBookReader.isBinaryFile(filePath)) {
+                logger.info(filePath + " is a binary file, reading it as such to convert it at the next save");
+                return Optional.of(isMemoryMapped
+                        ? new BinaryAddressBookReader().read(MappedFile.map(filePath))
+                        : new BinaryAddressBookReader().read(filePath));
+            }
+            if (isMemoryMapped) {
+                MappedFile file = MappedFile.map(filePath);
+                warnIfChanged(filePath, JsonChecksum.verify(file));
+                return Optional.of(new JsonAddressBookReader().read(file));
+            }
+            warnIfChanged(filePath, JsonChecksum.verify(filePath));
+            return Optional.of(new JsonAddressBookReader().read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    private static void warnIfChanged(Path filePath, JsonChecksum.Result checksumResult) {
+        if (checksumResult == JsonChecksum.Result.MISMATCH) {
+            logger.warning("Checksum of " + filePath + " does not match its content; it was changed or damaged"
+                    + " after it was saved");
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +111,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written as a stream, converting each record to JSON as it is written, to a temporary file that
+     * then replaces it.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +120,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        writer.write(addressBook, filePath);
     }
 
 }
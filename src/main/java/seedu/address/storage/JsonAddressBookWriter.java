@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book to a JSON file in the format read by {@code JsonAddressBookReader}, converting each person
+ * and appointment to its JSON form only as it is written.
+ * <p>
+ * The file is written through a buffer as it is generated, so writing takes memory proportional to a single record
+ * rather than to the file. The file is replaced atomically, and ends with a {@link JsonChecksum} of its content.
+ */
+class JsonAddressBookWriter {
+
+    private final boolean isPrettyPrinted;
+
+    /**
+     * Creates a writer that indents its output if {@code isPrettyPrinted}, or writes it compactly otherwise.
+     */
+    public JsonAddressBookWriter(boolean isPrettyPrinted) {
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Writes {@code addressBook} to the JSON file at {@code filePath}, replacing the file if it exists.
+     * The file keeps its old content if writing fails part way.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> write(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} as JSON to {@code out}, and closes it.
+     *
+     * @throws IOException if the stream could not be written.
+     */
+    public void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        Checksum checksum = JsonChecksum.newChecksum();
+        try (JsonGenerator generator = JsonUtil.createGenerator(new CheckedOutputStream(out, checksum),
+                isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("appointments");
+            for (Appointment appointment : addressBook.getAppointmentList()) {
+                generator.writeObject(new JsonAdaptedAppointment(appointment));
+            }
+            generator.writeEndArray();
+            // Everything written so far, up to the separator before the checksum field, is checksummed.
+            generator.flush();
+            generator.writeStringField(JsonChecksum.FIELD_NAME, JsonChecksum.format(checksum));
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
+
+/**
+ * The checksum that {@code JsonAddressBookWriter} embeds as the last field of the JSON object it writes.
+ * <p>
+ * The checksum is the CRC-32C of every byte of the file before the comma that separates the field from the rest of
+ * the object, written as 8 lowercase hexadecimal digits. The field can be found from the end of the file, so the
+ * file can be checked by reading it once as bytes, which is much quicker than parsing it.
+ */
+class JsonChecksum {
+
+    public static final String FIELD_NAME = "checksum";
+
+    /**
+     * The outcome of checking a file against the checksum embedded in it.
+     */
+    public enum Result {
+        /** The file has a checksum that matches its content. */
+        VALID,
+        /** The file has no checksum, such as a file written before checksums were added, or by hand. */
+        MISSING,
+        /** The file has a checksum that does not match its content, because it was changed after it was written. */
+        MISMATCH
+    }
+
+    /** The longest the checksum field and the end of the object can be, including the whitespace around them. */
+    private static final int MAX_TRAILER_BYTES = 256;
+    private static final Pattern TRAILER_PATTERN = Pattern.compile(
+            ",\\s*\"" + FIELD_NAME + "\"\\s*:\\s*\"([0-9a-f]{8})\"\\s*}\\s*$");
+
+    /**
+     * Returns a new checksum of the kind that is embedded in files.
+     */
+    public static Checksum newChecksum() {
+        return new CRC32C();
+    }
+
+    /**
+     * Returns the embedded form of the value of {@code checksum}.
+     */
+    public static String format(Checksum checksum) {
+        return String.format("%08x", checksum.getValue());
+    }
+
+    /**
+     * Checks the file at {@code filePath} against the checksum embedded at its end.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static Result verify(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            Optional<Trailer> trailer = readTrailer(channel);
+            if (trailer.isEmpty()) {
+                return Result.MISSING;
+            }
+
+            Checksum checksum = newChecksum();
+            channel.position(0);
+            try (InputStream in = new CheckedInputStream(Channels.newInputStream(channel), checksum)) {
+                byte[] buffer = new byte[1 << 16];
+                long remaining = trailer.get().offset;
+                while (remaining > 0) {
+                    int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        return Result.MISMATCH;
+                    }
+                    remaining -= read;
+                }
+            }
+            return format(checksum).equals(trailer.get().checksum) ? Result.VALID : Result.MISMATCH;
+        }
+    }
+
+    /**
+     * Checks the file mapped as {@code file} against the checksum embedded at its end.
+     */
+    public static Result verify(MappedFile file) throws IOException {
+        requireNonNull(file);
+        long tailOffset = Math.max(0, file.size() - MAX_TRAILER_BYTES);
+        byte[] tail = file.newInputStream(tailOffset, file.size()).readAllBytes();
+        Optional<Trailer> trailer = findTrailer(tail, tail.length, tailOffset);
+        if (trailer.isEmpty()) {
+            return Result.MISSING;
+        }
+
+        Checksum checksum = newChecksum();
+        file.update(checksum, 0, trailer.get().offset);
+        return format(checksum).equals(trailer.get().checksum) ? Result.VALID : Result.MISMATCH;
+    }
+
+    private static Optional<Trailer> readTrailer(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int tailLength = (int) Math.min(size, MAX_TRAILER_BYTES);
+        long tailOffset = size - tailLength;
+        ByteBuffer tail = ByteBuffer.allocate(tailLength);
+        while (tail.hasRemaining()) {
+            if (channel.read(tail, tailOffset + tail.position()) < 0) {
+                break;
+            }
+        }
+
+        return findTrailer(tail.array(), tail.position(), tailOffset);
+    }
+
+    /**
+     * Finds the checksum field at the end of the first {@code length} bytes of {@code tail}, which were read from
+     * {@code tailOffset} in the file.
+     */
+    private static Optional<Trailer> findTrailer(byte[] tail, int length, long tailOffset) {
+        // Each byte maps to a single character, so character positions are byte positions.
+        String tailText = new String(tail, 0, length, StandardCharsets.ISO_8859_1);
+        Matcher matcher = TRAILER_PATTERN.matcher(tailText);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Trailer(tailOffset + matcher.start(), matcher.group(1)));
+    }
+
+    /**
+     * The embedded checksum, and the offset of the comma before its field, which is where the checksummed bytes end.
+     */
+    private record Trailer(long offset, String checksum) {}
+}
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import seedu.address.model.person.PastMedicalHistory;
+import seedu.address.model.person.StoredPastMedicalHistory;
+
+/**
+ * A past medical history stored in a mapped binary address book file, which is only decoded into a
+ * {@code PastMedicalHistory}, through a {@code HydrationCache}, when it is needed.
+ */
+class LazyPastMedicalHistory implements StoredPastMedicalHistory {
+
+    private final HydrationCache<PastMedicalHistory> pastMedicalHistories;
+    private final long offset;
+
+    /**
+     * Creates the past medical history stored at {@code offset} in the file of {@code pastMedicalHistories}.
+     */
+    public LazyPastMedicalHistory(HydrationCache<PastMedicalHistory> pastMedicalHistories, long offset) {
+        requireNonNull(pastMedicalHistories);
+        this.pastMedicalHistories = pastMedicalHistories;
+        this.offset = offset;
+    }
+
+    @Override
+    public PastMedicalHistory get() {
+        return pastMedicalHistories.get(offset);
+    }
+
+    @Override
+    public String getStoredValue() {
+        return pastMedicalHistories.getString(offset);
+    }
+
+    @Override
+    public boolean isStoredAtSamePlace(StoredPastMedicalHistory other) {
+        return other instanceof LazyPastMedicalHistory otherLazy
+                && pastMedicalHistories == otherLazy.pastMedicalHistories
+                && offset == otherLazy.offset;
+    }
+
+    /**
+     * Copies the history to {@code out} in the form it is stored in, without decoding it.
+     *
+     * @throws IOException if {@code out} could not be written to.
+     */
+    public void copyStoredString(OutputStream out) throws IOException {
+        pastMedicalHistories.copyStoredString(offset, out);
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.Checksum;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * The content of a file mapped read-only into memory, so that it is read straight from the operating system's page
+ * cache rather than copied through buffers on the heap.
+ * <p>
+ * A single mapping cannot be larger than 2GB, so a larger file is mapped as several consecutive chunks. Positions
+ * in the file are given as {@code long}s, and reads that cross from one chunk to the next are handled here.
+ * <p>
+ * The mapping lasts until it is garbage collected, and some platforms, such as Windows, do not allow a mapped file
+ * to be replaced or deleted until then. Files are not mapped at all on those platforms, as saving replaces the file
+ * that was read, so storages only map files if {@link #isMappable(boolean)}.
+ */
+class MappedFile {
+
+    public static final int MAX_CHUNK_SIZE = Integer.MAX_VALUE;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedFile.class);
+
+    private final List<ByteBuffer> chunks;
+    private final int chunkSize;
+    private final long size;
+
+    private MappedFile(List<ByteBuffer> chunks, int chunkSize, long size) {
+        this.chunks = chunks;
+        this.chunkSize = chunkSize;
+        this.size = size;
+    }
+
+    /**
+     * Maps the whole file at {@code filePath} into memory.
+     *
+     * @throws IOException if the file could not be opened or mapped.
+     */
+    public static MappedFile map(Path filePath) throws IOException {
+        return map(filePath, MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * Maps the whole file at {@code filePath} into memory, in chunks of at most {@code chunkSize} bytes.
+     *
+     * @throws IOException if the file could not be opened or mapped.
+     */
+    static MappedFile map(Path filePath, int chunkSize) throws IOException {
+        requireNonNull(filePath);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<ByteBuffer> chunks = new ArrayList<>();
+            for (long position = 0; position < size; position += chunkSize) {
+                chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkSize, size - position)));
+            }
+            return new MappedFile(chunks, chunkSize, size);
+        }
+    }
+
+    /**
+     * Returns true if {@code isMemoryMapped} and mapped files can be replaced on this platform.
+     */
+    public static boolean isMappable(boolean isMemoryMapped) {
+        if (isMemoryMapped && !isReplaceableWhileMapped(System.getProperty("os.name", ""))) {
+            logger.info("Not mapping data files into memory, as mapped files cannot be replaced on this platform");
+            return false;
+        }
+        return isMemoryMapped;
+    }
+
+    /**
+     * Returns true if a mapped file can be replaced on the operating system named {@code osName}.
+     */
+    static boolean isReplaceableWhileMapped(String osName) {
+        return !osName.startsWith("Windows");
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the byte at {@code position}.
+     */
+    public byte get(long position) {
+        checkRange(position, position + 1);
+        return chunks.get((int) (position / chunkSize)).get((int) (position % chunkSize));
+    }
+
+    /**
+     * Returns the big-endian integer in the 4 bytes starting at {@code position}.
+     */
+    public int getInt(long position) {
+        checkRange(position, position + Integer.BYTES);
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value = (value << Byte.SIZE) | (get(position + i) & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Updates {@code checksum} with the bytes from {@code from}, inclusive, to {@code to}, exclusive.
+     */
+    public void update(Checksum checksum, long from, long to) {
+        requireNonNull(checksum);
+        checkRange(from, to);
+        long position = from;
+        while (position < to) {
+            ByteBuffer chunk = chunks.get((int) (position / chunkSize));
+            int offset = (int) (position % chunkSize);
+            int length = (int) Math.min(chunk.limit() - offset, to - position);
+            checksum.update(chunk.duplicate().position(offset).limit(offset + length));
+            position += length;
+        }
+    }
+
+    /**
+     * Returns a stream of the whole file.
+     */
+    public InputStream newInputStream() {
+        return newInputStream(0, size);
+    }
+
+    /**
+     * Returns a stream of the bytes from {@code from}, inclusive, to {@code to}, exclusive.
+     */
+    public InputStream newInputStream(long from, long to) {
+        checkRange(from, to);
+        return new InputStream() {
+            private long position = from;
+
+            @Override
+            public int read() {
+                return position < to ? get(position++) & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if (length == 0) {
+                    return 0;
+                }
+                if (position >= to) {
+                    return -1;
+                }
+                ByteBuffer chunk = chunks.get((int) (position / chunkSize));
+                int chunkOffset = (int) (position % chunkSize);
+                int count = (int) Math.min(Math.min(length, chunk.limit() - chunkOffset), to - position);
+                chunk.get(chunkOffset, bytes, offset, count);
+                position += count;
+                return count;
+            }
+
+            @Override
+            public long skip(long count) {
+                long skipped = Math.max(0, Math.min(count, to - position));
+                position += skipped;
+                return skipped;
+            }
+
+            @Override
+            public int available() {
+                return (int) Math.min(to - position, Integer.MAX_VALUE);
+            }
+        };
+    }
+
+    private void checkRange(long from, long to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") is outside a file of " + size
+                    + " bytes");
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts records read from storage to model objects, spreading the work across the common fork/join pool.
+ * <p>
+ * Converting a record validates every field against its constraints, so a large address book takes much longer to
+ * convert than to read. The records are split into contiguous chunks that are converted on separate threads, and
+ * the results are returned in the order of the records. If any records fail to convert, the failure of the first of
+ * them is thrown, exactly as if they had been converted one after another.
+ */
+class ParallelRecordConverter {
+
+    /** Lists with fewer records than this are converted on the calling thread, which is quicker for them. */
+    public static final int MIN_PARALLEL_SIZE = 1024;
+
+    /** The number of chunks for each thread of the pool, so that threads that finish early can take on more. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Converts a record to a model object.
+     */
+    @FunctionalInterface
+    public interface Conversion<R, T> {
+        T convert(R record) throws IllegalValueException;
+    }
+
+    /**
+     * Describes the failure to convert a record, given its index in the list of records.
+     */
+    @FunctionalInterface
+    public interface FailureDescriber {
+        IllegalValueException describe(int index, IllegalValueException failure);
+    }
+
+    /**
+     * Returns the model objects converted from {@code records} by {@code conversion}, in the same order.
+     *
+     * @throws IllegalValueException the failure of the first record that could not be converted, as described by
+     *     {@code describer}.
+     */
+    public static <R, T> List<T> convertAll(List<R> records, Conversion<R, T> conversion,
+            FailureDescriber describer) throws IllegalValueException {
+        return convertAll(records, conversion, describer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Similar to {@link #convertAll(List, Conversion, FailureDescriber)}, but converts the records on {@code pool}.
+     */
+    static <R, T> List<T> convertAll(List<R> records, Conversion<R, T> conversion, FailureDescriber describer,
+            ForkJoinPool pool) throws IllegalValueException {
+        requireNonNull(records);
+        requireNonNull(conversion);
+        requireNonNull(describer);
+        requireNonNull(pool);
+
+        int parallelism = pool.getParallelism();
+        if (records.size() < MIN_PARALLEL_SIZE || parallelism <= 1) {
+            List<T> converted = new ArrayList<>(records.size());
+            for (int i = 0; i < records.size(); i++) {
+                try {
+                    converted.add(conversion.convert(records.get(i)));
+                } catch (IllegalValueException ive) {
+                    throw describer.describe(i, ive);
+                }
+            }
+            return converted;
+        }
+
+        Object[] converted = new Object[records.size()];
+        int chunkCount = Math.min(records.size(), parallelism * CHUNKS_PER_THREAD);
+        AtomicInteger firstFailedIndex = new AtomicInteger(records.size());
+        List<ChunkConversion<R, T>> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks.add(new ChunkConversion<>(records, conversion, converted, firstFailedIndex,
+                    (int) ((long) records.size() * i / chunkCount),
+                    (int) ((long) records.size() * (i + 1) / chunkCount)));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(chunks)));
+
+        // Chunks cover the records in order and each stops at its own first failure, so the first failed chunk
+        // holds the first failure of all.
+        for (ChunkConversion<R, T> chunk : chunks) {
+            if (chunk.failure != null) {
+                throw describer.describe(chunk.failedIndex, chunk.failure);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> convertedList = (List<T>) Arrays.asList(converted);
+        return convertedList;
+    }
+
+    /**
+     * Converts the records from {@code from}, inclusive, to {@code to}, exclusive, into the matching slots of a
+     * shared array, stopping at the first record that fails.
+     */
+    private static class ChunkConversion<R, T> extends RecursiveAction {
+        private final List<R> records;
+        private final Conversion<R, T> conversion;
+        private final Object[] converted;
+        private final AtomicInteger firstFailedIndex;
+        private final int from;
+        private final int to;
+
+        private IllegalValueException failure;
+        private int failedIndex;
+
+        ChunkConversion(List<R> records, Conversion<R, T> conversion, Object[] converted,
+                AtomicInteger firstFailedIndex, int from, int to) {
+            this.records = records;
+            this.conversion = conversion;
+            this.converted = converted;
+            this.firstFailedIndex = firstFailedIndex;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = from; i < to; i++) {
+                // No record after an earlier failure can be the one reported, so converting it is wasted work.
+                if (i > firstFailedIndex.get()) {
+                    return;
+                }
+                try {
+                    converted[i] = conversion.convert(records.get(i));
+                } catch (IllegalValueException ive) {
+                    failure = ive;
+                    failedIndex = i;
+                    firstFailedIndex.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+    }
+}
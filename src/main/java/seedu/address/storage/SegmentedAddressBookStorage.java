@@ -0,0 +1,467 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as segment files on the hard disk: one file of persons, and one file of
+ * appointments for each month that has any. Each segment is an address book file read and saved by another
+ * {@code AddressBookStorage}, so segments can be in any format it supports.
+ * <p>
+ * The segments of an address book file are kept in a directory next to it, named after it and followed by
+ * {@value #SEGMENTS_DIRECTORY_SUFFIX}. Saving rewrites only the segments whose persons or appointments were added,
+ * replaced, removed or reordered since they were last saved to or read from this storage's own file, and the
+ * segments are read in parallel.
+ * <p>
+ * A save never overwrites the segments of the saves before it. Each rewritten segment is written to a new file named
+ * after the save, and a manifest naming the segments of the save is then written in place of the last one, so the
+ * address book is the one the manifest names until the new manifest is in place. The files of segments no longer
+ * named are deleted after that. Without a manifest, such as after a crash during the first save as segments, the
+ * whole file is read instead.
+ * <p>
+ * Appointments are read back month by month in chronological order, each month in the order it was saved in.
+ * <p>
+ * A storage that is not segmenting saves whole address book files. It still reads the segments it finds if there is
+ * no whole file, and replaces them with a whole file when it next saves, so segmenting can be turned off without
+ * losing data. Likewise, a segmenting storage reads a whole file if it has no segments, and replaces it with segments
+ * when it next saves. Reading never changes the files, and a save that was cut short between writing the new layout
+ * and deleting the old one leaves both, in which case the layout of the storage is read.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SEGMENTS_DIRECTORY_SUFFIX = ".segments";
+    public static final String PERSONS_SEGMENT_NAME = "persons";
+    public static final String APPOINTMENTS_SEGMENT_PREFIX = "appointments-";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM");
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final AddressBookStorage segmentStorage;
+    private final Path filePath;
+    private final boolean isSegmenting;
+
+    /** The persons as last saved to or read from this storage's own segments, or null if they are not known. */
+    private List<Person> savedPersons;
+    /** The appointments of each month as last saved to or read from this storage's own segments, or null. */
+    private Map<YearMonth, List<Appointment>> savedMonths;
+    /** The manifest of this storage's own segments when they were last saved or read, or null. */
+    private JsonAdaptedSegmentManifest savedManifest;
+
+    /**
+     * Creates a storage for the address book at the file of {@code segmentStorage}, with each segment read and
+     * saved by {@code segmentStorage}. The address book is saved as segments if {@code isSegmenting}, or as a
+     * whole file otherwise.
+     */
+    public SegmentedAddressBookStorage(AddressBookStorage segmentStorage, boolean isSegmenting) {
+        requireNonNull(segmentStorage.getAddressBookFilePath());
+        this.segmentStorage = segmentStorage;
+        this.filePath = segmentStorage.getAddressBookFilePath();
+        this.isSegmenting = isSegmenting;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The segments of {@code filePath} named by their manifest are read if there is one, or the whole file at
+     * {@code filePath} otherwise.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path directory = segmentsDirectoryOf(filePath);
+        Optional<JsonAdaptedSegmentManifest> manifest = readManifest(filePath, directory);
+        if (manifest.isEmpty()) {
+            return segmentStorage.readAddressBook(filePath);
+        }
+
+        AddressBook addressBook = readSegments(directory, manifest.get());
+        if (isSegmenting) {
+            rememberSaved(filePath, addressBook, manifest.get());
+        } else {
+            logger.info("Read the segments in " + directory + ", which are saved as a whole file at the next save");
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the segments that changed since the address book was last saved to or read from this storage's own file
+     * are rewritten. Every segment is written when saving to any other file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!isSegmenting) {
+            saveWholeFile(addressBook, filePath);
+            return;
+        }
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        List<Person> lastPersons = isOwnFile ? savedPersons : null;
+        Map<YearMonth, List<Appointment>> lastMonths = isOwnFile ? savedMonths : null;
+        JsonAdaptedSegmentManifest lastManifest = isOwnFile ? savedManifest : null;
+        // If writing fails part way, which segments are up to date is not known until every one is written again.
+        if (isOwnFile) {
+            forgetSaved();
+        }
+
+        Path directory = segmentsDirectoryOf(filePath);
+        if (lastManifest == null) {
+            lastManifest = readLastManifest(filePath, directory);
+        }
+        long generation = lastManifest == null ? 1 : lastManifest.getGeneration() + 1;
+        String suffix = "-" + generation + extensionOf(filePath);
+        Files.createDirectories(directory);
+        int writtenCount = 0;
+
+        List<Person> persons = addressBook.getPersonList();
+        String personsFileName;
+        if (lastPersons != null && isSameElements(lastPersons, persons)) {
+            personsFileName = fileNamesOf(lastManifest).get(0);
+        } else {
+            personsFileName = PERSONS_SEGMENT_NAME + suffix;
+            AddressBook segment = new AddressBook();
+            segment.setPersons(persons);
+            segmentStorage.saveAddressBook(segment, directory.resolve(personsFileName));
+            writtenCount++;
+        }
+
+        NavigableMap<YearMonth, List<Appointment>> months = byMonth(addressBook.getAppointmentList());
+        Map<YearMonth, String> lastMonthFileNames = lastMonths == null
+                ? Map.of()
+                : appointmentsFileNamesOf(lastManifest);
+        NavigableMap<YearMonth, String> monthFileNames = new TreeMap<>();
+        for (Map.Entry<YearMonth, List<Appointment>> month : months.entrySet()) {
+            List<Appointment> lastAppointments = lastMonths == null ? null : lastMonths.get(month.getKey());
+            if (lastAppointments != null && isSameElements(lastAppointments, month.getValue())) {
+                monthFileNames.put(month.getKey(), lastMonthFileNames.get(month.getKey()));
+                continue;
+            }
+            String fileName = APPOINTMENTS_SEGMENT_PREFIX + MONTH_FORMATTER.format(month.getKey()) + suffix;
+            AddressBook segment = new AddressBook();
+            segment.setAppointments(month.getValue());
+            segmentStorage.saveAddressBook(segment, directory.resolve(fileName));
+            monthFileNames.put(month.getKey(), fileName);
+            writtenCount++;
+        }
+
+        // The segments of this save take the place of the last ones only once the manifest naming them is written.
+        JsonAdaptedSegmentManifest manifest = new JsonAdaptedSegmentManifest(generation, personsFileName,
+                monthFileNames);
+        JsonUtil.saveJsonFile(manifest, directory.resolve(MANIFEST_FILE_NAME));
+        Files.deleteIfExists(filePath);
+        deleteUnnamedFiles(directory, manifest);
+        logger.fine(String.format("Wrote %d of %d segments of %s", writtenCount, months.size() + 1, filePath));
+
+        if (isOwnFile) {
+            savedPersons = List.copyOf(persons);
+            savedMonths = months;
+            savedManifest = manifest;
+        }
+    }
+
+    /**
+     * Reads the segments in {@code directory} named by {@code manifest} in parallel, and combines them into one
+     * address book.
+     */
+    private AddressBook readSegments(Path directory, JsonAdaptedSegmentManifest manifest)
+            throws DataLoadingException {
+        List<Path> segmentPaths = new ArrayList<>();
+        try {
+            for (String fileName : manifest.getFileNames()) {
+                segmentPaths.add(directory.resolve(fileName));
+            }
+        } catch (IllegalValueException ive) {
+            logger.warning("Invalid manifest in segments directory " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        long startTime = System.nanoTime();
+        List<ReadOnlyAddressBook> segments = readInParallel(segmentPaths);
+        List<Person> persons = new ArrayList<>();
+        List<Appointment> appointments = new ArrayList<>();
+        for (ReadOnlyAddressBook segment : segments) {
+            persons.addAll(segment.getPersonList());
+            appointments.addAll(segment.getAppointmentList());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+            addressBook.setAppointments(appointments);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        } catch (DuplicateAppointmentException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT));
+        }
+        logger.info(String.format("Read %d segments from %s in %d ms", segmentPaths.size(), directory,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        return addressBook;
+    }
+
+    /**
+     * Reads the address book segments at {@code segmentPaths} on a pool of threads, returning them in the same
+     * order. A missing segment is read as empty. If any segments fail to load, the failure of the first of them
+     * is thrown.
+     */
+    private List<ReadOnlyAddressBook> readInParallel(List<Path> segmentPaths) throws DataLoadingException {
+        int threadCount = Math.min(segmentPaths.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Optional<ReadOnlyAddressBook>>> futures = new ArrayList<>();
+            for (Path segmentPath : segmentPaths) {
+                Callable<Optional<ReadOnlyAddressBook>> read = () -> segmentStorage.readAddressBook(segmentPath);
+                futures.add(executor.submit(read));
+            }
+
+            List<ReadOnlyAddressBook> segments = new ArrayList<>();
+            for (Future<Optional<ReadOnlyAddressBook>> future : futures) {
+                segments.add(future.get().orElseGet(AddressBook::new));
+            }
+            return segments;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new DataLoadingException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} as the whole file at {@code filePath}, and then deletes any segments of the file,
+     * their manifest first so that the whole file is read from then on.
+     */
+    private void saveWholeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        segmentStorage.saveAddressBook(addressBook, filePath);
+        Path directory = segmentsDirectoryOf(filePath);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Files.deleteIfExists(directory.resolve(MANIFEST_FILE_NAME));
+        try (DirectoryStream<Path> segmentPaths = Files.newDirectoryStream(directory)) {
+            for (Path segmentPath : segmentPaths) {
+                Files.delete(segmentPath);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private void rememberSaved(Path filePath, ReadOnlyAddressBook addressBook, JsonAdaptedSegmentManifest manifest) {
+        if (filePath.equals(this.filePath)) {
+            savedPersons = List.copyOf(addressBook.getPersonList());
+            savedMonths = byMonth(addressBook.getAppointmentList());
+            savedManifest = manifest;
+        }
+    }
+
+    private void forgetSaved() {
+        savedPersons = null;
+        savedMonths = null;
+        savedManifest = null;
+    }
+
+    /**
+     * Returns the manifest of the segments of {@code filePath} in {@code directory}, or {@code Optional.empty()} if
+     * there is none and the whole file is to be read instead.
+     * <p>
+     * If there are both a manifest and a whole file, a save was cut short before it deleted the files of the layout
+     * it replaced. A segmenting storage only saves segments, so the manifest is the newer one for it, and the whole
+     * file is the newer one for a storage that is not segmenting.
+     * <p>
+     * Segments saved before manifests were added have none, and are listed by their file names if there is no whole
+     * file, as those saves deleted the whole file only after every segment was written.
+     */
+    private Optional<JsonAdaptedSegmentManifest> readManifest(Path filePath, Path directory)
+            throws DataLoadingException {
+        if (!Files.isDirectory(directory) || !isSegmenting && Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        if (Files.exists(manifestPath)) {
+            return JsonUtil.readJsonFile(manifestPath, JsonAdaptedSegmentManifest.class);
+        }
+        if (Files.exists(filePath)) {
+            logger.info("Ignoring the segments in " + directory + " that have no manifest");
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(listUnnamedSegments(filePath, directory));
+        } catch (IOException e) {
+            logger.warning("Error reading from segments directory " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the manifest of the segments last saved for {@code filePath}, or null if there is none.
+     *
+     * @throws IOException if the manifest could not be read.
+     */
+    private JsonAdaptedSegmentManifest readLastManifest(Path filePath, Path directory) throws IOException {
+        try {
+            return readManifest(filePath, directory).orElse(null);
+        } catch (DataLoadingException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns a manifest of the segments in {@code directory} with the names that segments had before manifests were
+     * added, which is of generation 0.
+     */
+    private static JsonAdaptedSegmentManifest listUnnamedSegments(Path filePath, Path directory) throws IOException {
+        String extension = extensionOf(filePath);
+        NavigableMap<YearMonth, String> monthFileNames = new TreeMap<>();
+        try (DirectoryStream<Path> segmentPaths = Files.newDirectoryStream(directory,
+                APPOINTMENTS_SEGMENT_PREFIX + "*" + extension)) {
+            for (Path segmentPath : segmentPaths) {
+                String name = segmentPath.getFileName().toString();
+                String month = name.substring(APPOINTMENTS_SEGMENT_PREFIX.length(), name.length() - extension.length());
+                try {
+                    monthFileNames.put(YearMonth.parse(month, MONTH_FORMATTER), name);
+                } catch (DateTimeParseException e) {
+                    logger.warning("Ignoring file " + segmentPath + " that is not named after a month");
+                }
+            }
+        }
+        return new JsonAdaptedSegmentManifest(0, PERSONS_SEGMENT_NAME + extension, monthFileNames);
+    }
+
+    /**
+     * Deletes the files in {@code directory} other than {@code manifest} and the segments it names.
+     */
+    private static void deleteUnnamedFiles(Path directory, JsonAdaptedSegmentManifest manifest) throws IOException {
+        Set<String> namedFiles = new HashSet<>(fileNamesOf(manifest));
+        namedFiles.add(MANIFEST_FILE_NAME);
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory)) {
+            for (Path path : paths) {
+                if (!namedFiles.contains(path.getFileName().toString())) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private static List<String> fileNamesOf(JsonAdaptedSegmentManifest manifest) throws IOException {
+        try {
+            return manifest.getFileNames();
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive.getMessage(), ive);
+        }
+    }
+
+    private static NavigableMap<YearMonth, String> appointmentsFileNamesOf(JsonAdaptedSegmentManifest manifest)
+            throws IOException {
+        try {
+            return manifest.getAppointmentsFileNames();
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Returns {@code appointments} grouped by the month of their time, each month keeping their order in the list.
+     */
+    private static NavigableMap<YearMonth, List<Appointment>> byMonth(List<Appointment> appointments) {
+        NavigableMap<YearMonth, List<Appointment>> months = new TreeMap<>();
+        for (Appointment appointment : appointments) {
+            months.computeIfAbsent(YearMonth.from(appointment.getDateTime().getDateTime()),
+                    unused -> new ArrayList<>()).add(appointment);
+        }
+        return months;
+    }
+
+    /**
+     * Returns true if {@code saved} and {@code current} hold the same objects in the same order. Persons and
+     * appointments are immutable, so a list of the same objects has not changed.
+     */
+    private static <T> boolean isSameElements(List<T> saved, List<T> current) {
+        if (saved.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Path segmentsDirectoryOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SEGMENTS_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the extension of the name of the file at {@code filePath}, including its dot, or an empty string if it
+     * has none.
+     */
+    private static String extensionOf(Path filePath) {
+        String name = filePath.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(dot) : "";
+    }
+}
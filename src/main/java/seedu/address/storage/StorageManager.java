@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,12 +14,16 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Saving an address book to its own file is skipped if the address book has not changed since it was last saved to
+ * or read from that file.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    /** The version of the address book last saved to or read from the address book file, if any. */
+    private OptionalLong savedAddressBookVersion = OptionalLong.empty();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -28,6 +33,40 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the storage of the address book file given by {@code userPrefs}, in the format and layout it sets.
+     * <p>
+     * If the address book is not to be journaled, but a journal was left by a run that journaled it, the journal is
+     * first compacted into its snapshot, so that its changes are not lost. If that fails, the address book is
+     * journaled for this run instead.
+     */
+    public static AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage formatStorage = userPrefs.isAddressBookBinary()
+                ? new BinaryAddressBookStorage(filePath, userPrefs.isAddressBookMemoryMapped(),
+                        userPrefs.isAddressBookLazilyLoaded())
+                : new JsonAddressBookStorage(filePath, userPrefs.isAddressBookPrettyPrinted(),
+                        userPrefs.isAddressBookMemoryMapped());
+        // Segments already rewrite only what changed, so they are not also journaled.
+        boolean isJournaled = userPrefs.isAddressBookJournaled() && !userPrefs.isAddressBookSegmented();
+        if (!isJournaled) {
+            try {
+                // Journals are only kept for whole files.
+                JournaledAddressBookStorage.compactJournal(new SegmentedAddressBookStorage(formatStorage, false),
+                        userPrefs.isAddressBookMemoryMapped());
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Failed to compact the journal of " + filePath + ", so it is kept for this run: " + e);
+                isJournaled = true;
+            }
+        }
+
+        AddressBookStorage snapshotStorage = new SegmentedAddressBookStorage(formatStorage,
+                userPrefs.isAddressBookSegmented() && !isJournaled);
+        return isJournaled
+                ? new JournaledAddressBookStorage(snapshotStorage, userPrefs.isAddressBookMemoryMapped())
+                : snapshotStorage;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -61,7 +100,13 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            savedAddressBookVersion = addressBook.isPresent()
+                    ? OptionalLong.of(addressBook.get().getVersion())
+                    : OptionalLong.empty();
+        }
+        return addressBook;
     }
 
     @Override
@@ -71,8 +116,21 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        boolean isOwnFile = filePath.equals(getAddressBookFilePath());
+        if (isOwnFile && savedAddressBookVersion.equals(OptionalLong.of(addressBook.getVersion()))) {
+            logger.fine("Skipping write of unchanged data to file: " + filePath);
+            return;
+        }
+
         logger.fine("Attempting to write to data file: " + filePath);
+        if (isOwnFile) {
+            // The file may be left partly written if saving fails.
+            savedAddressBookVersion = OptionalLong.empty();
+        }
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (isOwnFile) {
+            savedAddressBookVersion = OptionalLong.of(addressBook.getVersion());
+        }
     }
 
 }
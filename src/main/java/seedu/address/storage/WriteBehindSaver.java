@@ -0,0 +1,247 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves an address book to an {@code AddressBookStorage} in the background some time after it changes, so that a
+ * burst of changes is saved once, and the thread that owns the address book does not wait for the file to be written.
+ * <p>
+ * A save is started at most {@code maxStaleness} after the first change that has not been saved. The address book
+ * is copied on the thread that owns it, through the given executor, and the copy is then written on a background
+ * thread. Errors from background saves are passed to the error handler on the thread that owns the address book,
+ * once until a save succeeds again, and the save is tried again {@code maxStaleness} later. With a
+ * {@code maxStaleness} of zero, every change is instead saved immediately on the calling thread.
+ * <p>
+ * Requests made when the address book has the same version as the last copy handed to storage are ignored, so
+ * commands that do not change the address book do not cause it to be copied or saved.
+ */
+public class WriteBehindSaver {
+
+    public static final Duration DEFAULT_MAX_STALENESS = Duration.ofMillis(500);
+
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Supplier<ReadOnlyAddressBook> addressBook;
+    private final Executor modelExecutor;
+    private final ScheduledExecutorService saveExecutor;
+    private final Duration maxStaleness;
+    private final Object writeLock = new Object();
+
+    private Consumer<IOException> errorHandler = unused -> { };
+    private ScheduledFuture<?> scheduledSave;
+    /** The version of the address book last handed to storage, unless saving it failed. */
+    private OptionalLong handedOverVersion = OptionalLong.empty();
+    private long snapshotVersion;
+    private long writtenVersion;
+    private boolean isFailing;
+
+    /**
+     * Creates a saver that saves the address book given by {@code addressBook} to {@code storage}, copying it on
+     * {@code modelExecutor} at most {@code maxStaleness} after it changes.
+     */
+    public WriteBehindSaver(AddressBookStorage storage, Supplier<ReadOnlyAddressBook> addressBook,
+            Executor modelExecutor, Duration maxStaleness) {
+        this(storage, addressBook, modelExecutor, maxStaleness, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a saver that writes the address book on {@code saveExecutor}.
+     */
+    WriteBehindSaver(AddressBookStorage storage, Supplier<ReadOnlyAddressBook> addressBook, Executor modelExecutor,
+            Duration maxStaleness, ScheduledExecutorService saveExecutor) {
+        requireAllNonNull(storage, addressBook, modelExecutor, maxStaleness, saveExecutor);
+        this.storage = storage;
+        this.addressBook = addressBook;
+        this.modelExecutor = modelExecutor;
+        this.maxStaleness = maxStaleness;
+        this.saveExecutor = saveExecutor;
+    }
+
+    /**
+     * Sets the handler of errors from saves made in the background.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Records that the address book may have changed, and schedules it to be saved if it has changed and is not
+     * scheduled to be saved already.
+     *
+     * @throws IOException if the saver saves immediately, and saving failed.
+     */
+    public synchronized void requestSave() throws IOException {
+        if (scheduledSave != null || isHandedOver(addressBook.get())) {
+            return;
+        }
+        if (maxStaleness.isZero()) {
+            ReadOnlyAddressBook current = addressBook.get();
+            storage.saveAddressBook(current);
+            handedOverVersion = OptionalLong.of(current.getVersion());
+            return;
+        }
+        scheduleSave();
+    }
+
+    /**
+     * Saves the changes to the address book that have not yet been handed to a background save, or whose background
+     * save failed, on the calling thread.
+     *
+     * @throws IOException if saving failed.
+     */
+    public synchronized void flush() throws IOException {
+        if (scheduledSave != null) {
+            scheduledSave.cancel(false);
+            scheduledSave = null;
+        }
+        ReadOnlyAddressBook current = addressBook.get();
+        if (isHandedOver(current)) {
+            return;
+        }
+        Snapshot snapshot = new Snapshot(current);
+        handedOverVersion = OptionalLong.empty();
+        write(snapshot, ++snapshotVersion);
+        handedOverVersion = OptionalLong.of(snapshot.getVersion());
+    }
+
+    /**
+     * Saves any unsaved changes, waits for background saves to finish, and stops saving in the background.
+     * Changes whose background save failed while waiting are then saved on the calling thread.
+     *
+     * @throws IOException if saving the unsaved changes failed.
+     */
+    public void stop() throws IOException {
+        try {
+            flush();
+        } finally {
+            saveExecutor.shutdown();
+            try {
+                if (!saveExecutor.awaitTermination(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    logger.warning("Background saves did not finish in time");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private synchronized void scheduleSave() {
+        scheduledSave = saveExecutor.schedule(() -> modelExecutor.execute(this::startScheduledSave),
+                maxStaleness.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void startScheduledSave() {
+        if (scheduledSave == null || saveExecutor.isShutdown()) {
+            return;
+        }
+        scheduledSave = null;
+        ReadOnlyAddressBook current = addressBook.get();
+        if (isHandedOver(current)) {
+            return;
+        }
+        Snapshot snapshot = new Snapshot(current);
+        long version = ++snapshotVersion;
+        handedOverVersion = OptionalLong.of(snapshot.getVersion());
+        saveExecutor.execute(() -> {
+            try {
+                write(snapshot, version);
+            } catch (IOException e) {
+                logger.warning("Failed to save address book in the background: " + e);
+                boolean isFirstFailure;
+                synchronized (this) {
+                    handedOverVersion = OptionalLong.empty();
+                    isFirstFailure = !isFailing;
+                    isFailing = true;
+                    if (scheduledSave == null && !saveExecutor.isShutdown()) {
+                        scheduleSave();
+                    }
+                }
+                if (isFirstFailure) {
+                    modelExecutor.execute(() -> errorHandler.accept(e));
+                }
+            }
+        });
+    }
+
+    private boolean isHandedOver(ReadOnlyAddressBook addressBook) {
+        return handedOverVersion.equals(OptionalLong.of(addressBook.getVersion()));
+    }
+
+    /**
+     * Writes {@code snapshot} unless a later snapshot has already been written.
+     */
+    private void write(Snapshot snapshot, long version) throws IOException {
+        synchronized (writeLock) {
+            if (version <= writtenVersion) {
+                return;
+            }
+            storage.saveAddressBook(snapshot);
+            writtenVersion = version;
+        }
+        synchronized (this) {
+            isFailing = false;
+        }
+    }
+
+    /**
+     * A copy of the lists of an address book. Persons and appointments are immutable, so copying the lists is
+     * enough for the copy to be read on another thread while the address book changes.
+     */
+    static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Appointment> appointments;
+        private final long version;
+
+        Snapshot(ReadOnlyAddressBook source) {
+            version = source.getVersion();
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getPersonList()));
+            appointments = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getAppointmentList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Appointment> getAppointmentList() {
+            return appointments;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -1,34 +1,52 @@
 package seedu.address.ui;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * <p>
+ * While a find command for keywords is being typed, the person list is narrowed to the persons matching the
+ * keywords typed so far, treating each keyword as a prefix. The search runs once typing pauses briefly.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final String LIVE_SEARCH_COMMAND = FindCommand.COMMAND_WORD + " ";
+    private static final Duration LIVE_SEARCH_DELAY = Duration.millis(100);
 
     private final CommandExecutor commandExecutor;
+    private final LiveSearcher liveSearcher;
+    private final PauseTransition liveSearchTimer = new PauseTransition(LIVE_SEARCH_DELAY);
+    private boolean isLiveSearching;
 
     @FXML
     private TextArea commandTextArea;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code LiveSearcher}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, LiveSearcher liveSearcher) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.liveSearcher = liveSearcher;
 
         commandTextArea.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
             if (event.getCode() == KeyCode.ENTER && !event.isShiftDown()) {
@@ -40,6 +58,8 @@ public class CommandBox extends UiPart<Region> {
         // Reset style when user types
         commandTextArea.textProperty().addListener((
                 unused1, unused2, unused3) -> setStyleToDefault());
+
+        commandTextArea.textProperty().addListener((unused1, unused2, newText) -> scheduleLiveSearch(newText));
     }
 
     /**
@@ -55,6 +75,10 @@ public class CommandBox extends UiPart<Region> {
                 return;
             }
 
+            // The entered command decides what is shown from now on
+            liveSearchTimer.stop();
+            isLiveSearching = false;
+
             try {
                 commandExecutor.execute(commandText);
                 commandTextArea.clear();
@@ -64,6 +88,44 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Runs a live search for {@code commandText} once typing pauses, if it is a find command, or ends the live search
+     * if one is showing and {@code commandText} is no longer a find command.
+     */
+    private void scheduleLiveSearch(String commandText) {
+        if (!isLiveSearchCommand(commandText) && !isLiveSearching) {
+            liveSearchTimer.stop();
+            return;
+        }
+        liveSearchTimer.setOnFinished(unused -> runLiveSearch(commandText));
+        liveSearchTimer.playFromStart();
+    }
+
+    private void runLiveSearch(String commandText) {
+        if (!isLiveSearchCommand(commandText)) {
+            liveSearcher.search(List.of());
+            isLiveSearching = false;
+            return;
+        }
+        String keywords = commandText.stripLeading().substring(LIVE_SEARCH_COMMAND.length());
+        List<String> prefixes = Arrays.stream(keywords.split("\\s+"))
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+        liveSearcher.search(prefixes);
+        isLiveSearching = true;
+    }
+
+    private static boolean isLiveSearchCommand(String commandText) {
+        String strippedText = commandText.stripLeading();
+        if (!strippedText.startsWith(LIVE_SEARCH_COMMAND)) {
+            return false;
+        }
+        String args = strippedText.substring(LIVE_SEARCH_COMMAND.length()).stripLeading();
+        return !args.startsWith(FindCommand.FUZZY_PREFIX)
+                && Arrays.stream(args.split("\\s+")).noneMatch(word -> word.startsWith(PREFIX_ALLERGY.getPrefix())
+                        || word.startsWith(PREFIX_MEDICINE.getPrefix()));
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -97,4 +159,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that shows the persons matching a search as it is typed.
+     */
+    @FunctionalInterface
+    public interface LiveSearcher {
+        /**
+         * Shows the persons matching any of {@code prefixes}, or all persons if there are none.
+         *
+         * @see seedu.address.logic.Logic#filterPersonsByPrefix(List)
+         */
+        void search(List<String> prefixes);
+    }
+
 }
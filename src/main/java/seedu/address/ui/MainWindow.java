@@ -133,13 +133,14 @@ public class MainWindow extends UiPart<Stage> {
         assert resultDisplayPlaceholder != null : "resultDisplayPlaceholder' was not added";
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorListener(resultDisplay::setFeedbackToUser);
 
         assert statusbarPlaceholder != null : "statusbarPlaceholder' was not added";
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         assert commandBoxPlaceholder != null : "commandBoxPlaceholder' was not added";
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::filterPersonsByPrefix);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         appointmentListPanel =
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,39 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectory_fileCreated() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_replacedWithoutTemporaryFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Files.writeString(file, "old content that is longer");
+
+        FileUtil.writeAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            out.close();
+        });
+
+        assertEquals("new", Files.readString(file));
+        assertEquals(List.of(file.getFileName()), Files.list(testFolder).map(Path::getFileName).toList());
+    }
+
+    @Test
+    public void writeAtomically_writerFails_oldContentKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Files.writeString(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old content", Files.readString(file));
+        assertEquals(List.of(file.getFileName()), Files.list(testFolder).map(Path::getFileName).toList());
+    }
+
 }
@@ -18,12 +18,14 @@ import static seedu.address.logic.commands.CommandTestUtil.PAST_MEDICAL_HISTORY_
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.SMOKING_RECORD_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
-import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,7 +40,6 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -100,6 +101,18 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void filterPersonsByPrefix_prefixes_narrowsThenRestoresPersonList() {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+
+        logic.filterPersonsByPrefix(List.of("paul"));
+        assertEquals(List.of(ALICE), logic.getFilteredPersonList());
+
+        logic.filterPersonsByPrefix(List.of());
+        assertEquals(List.of(ALICE, BENSON), logic.getFilteredPersonList());
+    }
+
     @Test
     public void getUpcomingAppointmentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getUpcomingAppointmentList().remove(0));
@@ -110,13 +123,6 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getPastAppointmentList().remove(0));
     }
 
-    @Test
-    public void getFilteredAppointmentList_modifyList_throwsUnsupportedOperationException() {
-        assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredAppointmentList(
-                new IdentityNumber("AP67")
-        ).add(APPT_ALICE));
-    }
-
     @Test
     public void getViewedPersonUpcomingAppointmentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getViewedPersonUpcomingAppointmentList()
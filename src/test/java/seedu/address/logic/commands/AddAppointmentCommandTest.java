@@ -6,9 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -149,6 +151,11 @@ public class AddAppointmentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findPersonById(IdentityNumber identityNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -194,11 +201,6 @@ public class AddAppointmentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public ObservableList<Appointment> getFilteredAppointmentList(IdentityNumber personId) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -224,6 +226,11 @@ public class AddAppointmentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<LocalDateTime> updateAppointmentBoundary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Appointment> getViewedPersonUpcomingAppointmentList() {
             throw new AssertionError("This method should not be called.");
@@ -9,8 +9,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -156,6 +158,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findPersonById(IdentityNumber identityNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -201,11 +208,6 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public ObservableList<Appointment> getFilteredAppointmentList(IdentityNumber personId) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -236,6 +238,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<LocalDateTime> updateAppointmentBoundary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Appointment> getViewedPersonUpcomingAppointmentList() {
             throw new AssertionError("This method should not be called.");
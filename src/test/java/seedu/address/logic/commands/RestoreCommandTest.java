@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookBackups;
+import seedu.address.storage.AddressBookBackups.Backup;
+
+public class RestoreCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBookBackups backups;
+
+    @BeforeEach
+    public void setUp() {
+        backups = new AddressBookBackups(testFolder.resolve("healthnote.json"));
+    }
+
+    @Test
+    public void execute_noBackupNumber_backupsListed() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new RestoreCommand(backups, null), model, RestoreCommand.MESSAGE_NO_BACKUPS,
+                new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+
+        AddressBook addressBook = getTypicalAddressBook();
+        backups.backUp(addressBook);
+        addressBook.addPerson(HOON);
+        backups.backUp(addressBook);
+        String expectedList = "";
+        for (Backup backup : backups.list()) {
+            expectedList += backup.number() + ". " + backup.time().format(RestoreCommand.TIME_FORMAT) + "\n";
+        }
+        assertCommandSuccess(new RestoreCommand(backups, null), model,
+                String.format(RestoreCommand.MESSAGE_LIST_BACKUPS, expectedList.trim()),
+                new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_existingBackup_addressBookRestored() throws Exception {
+        AddressBook backedUp = getTypicalAddressBook();
+        backups.backUp(backedUp);
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(HOON);
+
+        Backup backup = backups.list().get(0);
+        String expectedMessage = String.format(RestoreCommand.MESSAGE_SUCCESS, 1,
+                backup.time().format(RestoreCommand.TIME_FORMAT));
+        assertCommandSuccess(new RestoreCommand(backups, Index.fromOneBased(1)), model, expectedMessage,
+                new ModelManager(backedUp, new UserPrefs()));
+    }
+
+    @Test
+    public void execute_missingBackup_throwsCommandException() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new RestoreCommand(backups, Index.fromOneBased(1)), model,
+                String.format(RestoreCommand.MESSAGE_NO_SUCH_BACKUP, 1));
+    }
+
+    @Test
+    public void execute_backupsUnavailable_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new RestoreCommand(null, null), model, RestoreCommand.MESSAGE_BACKUPS_UNAVAILABLE);
+    }
+
+    @Test
+    public void equals() {
+        RestoreCommand restoreFirst = new RestoreCommand(backups, Index.fromOneBased(1));
+
+        assertTrue(restoreFirst.equals(restoreFirst));
+        assertTrue(restoreFirst.equals(new RestoreCommand(backups, Index.fromOneBased(1))));
+        assertFalse(restoreFirst.equals(new RestoreCommand(backups, Index.fromOneBased(2))));
+        assertFalse(restoreFirst.equals(new RestoreCommand(backups, null)));
+        assertFalse(restoreFirst.equals(null));
+        assertEquals(new RestoreCommand(null, null), new RestoreCommand(null, null));
+    }
+}
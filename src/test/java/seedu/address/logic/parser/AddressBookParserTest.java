@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
@@ -23,15 +24,20 @@ import seedu.address.logic.commands.DeleteUpcomingAppointmentCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.ThemeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.AppointmentNotes;
 import seedu.address.model.appointment.AppointmentTime;
+import seedu.address.model.person.FacetExpression;
 import seedu.address.model.person.NameOrIdContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFacetIndex.Facet;
+import seedu.address.model.person.PersonFacetPredicate;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -54,6 +60,13 @@ public class AddressBookParserTest {
                 + " " + ClearCommand.CONFIRMATION_ARGUMENT), new ClearCommand());
     }
 
+    @Test
+    public void parseCommand_restore() throws Exception {
+        assertEquals(new RestoreCommand(null, null), parser.parseCommand(RestoreCommand.COMMAND_WORD));
+        assertEquals(new RestoreCommand(null, INDEX_FIRST_PERSON), parser.parseCommand(
+                RestoreCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -111,6 +124,14 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameOrIdContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(
+                FilterCommand.COMMAND_WORD + " " + PREFIX_TAG + "urgent");
+        assertEquals(new FilterCommand(new PersonFacetPredicate(
+                FacetExpression.hasAny(Facet.TAG, List.of("urgent")))), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
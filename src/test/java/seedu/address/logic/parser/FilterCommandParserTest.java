@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.FilterCommandParser.MESSAGE_INVALID_AGE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.BloodType;
+import seedu.address.model.person.FacetExpression;
+import seedu.address.model.person.PersonFacetIndex.Facet;
+import seedu.address.model.person.PersonFacetPredicate;
+
+public class FilterCommandParserTest {
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_noConditions_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() {
+        assertParseFailure(parser, " urgent t\\urgent",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FacetExpression expected = FacetExpression.and(List.of(
+                FacetExpression.hasAny(Facet.BLOOD_TYPE, List.of("O-", "O+")),
+                FacetExpression.not(FacetExpression.hasAny(Facet.GENDER, List.of("F"))),
+                FacetExpression.hasAny(Facet.SMOKING_RECORD, List.of("heavy smoker")),
+                FacetExpression.hasAny(Facet.TAG, List.of("urgent")),
+                FacetExpression.or(List.of(FacetExpression.ageAtLeast(60), FacetExpression.ageBetween(0, 17)))));
+        FilterCommand expectedFilterCommand = new FilterCommand(new PersonFacetPredicate(expected));
+
+        assertParseSuccess(parser, " b\\O- t\\urgent sr\\heavy smoker g\\!F b\\O+ age\\60+ age\\0-17",
+                expectedFilterCommand);
+
+        // whitespace around values and exclude markers
+        assertParseSuccess(parser, " \n b\\ O-  t\\urgent \t sr\\heavy smoker g\\ ! F b\\O+ age\\60+ age\\0-17 ",
+                expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_singleAge_returnsAgeRangeOfOneYear() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new PersonFacetPredicate(
+                FacetExpression.not(FacetExpression.ageBetween(40, 40))));
+        assertParseSuccess(parser, " age\\!40", expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        // blank value
+        assertParseFailure(parser, " b\\", BloodType.MESSAGE_CONSTRAINTS);
+
+        // blank excluded value
+        assertParseFailure(parser, " b\\!", BloodType.MESSAGE_CONSTRAINTS);
+
+        // age not a number
+        assertParseFailure(parser, " age\\old", MESSAGE_INVALID_AGE);
+
+        // age range in the wrong order
+        assertParseFailure(parser, " age\\60-40", MESSAGE_INVALID_AGE);
+    }
+}
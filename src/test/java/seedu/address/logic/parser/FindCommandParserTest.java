@@ -1,15 +1,21 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.logic.parser.FindCommandParser.MESSAGE_INVALID_FIND;
 
 import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.Allergy;
+import seedu.address.model.person.HasAllergyOrMedicinePredicate;
+import seedu.address.model.person.Medicine;
 import seedu.address.model.person.NameOrIdContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +37,41 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyName_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new NameSimilarToPredicate("bernise yu"));
+        assertParseSuccess(parser, "~bernise yu", expectedFindCommand);
+
+        // whitespace around the name
+        assertParseSuccess(parser, "  ~  bernise yu \t", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fuzzyWithoutName_throwsParseException() {
+        assertParseFailure(parser, " ~  ", String.format(MESSAGE_INVALID_FIND, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_allergiesAndMedicines_returnsAllergyOrMedicineFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new HasAllergyOrMedicinePredicate(
+                Set.of(new Allergy("penicillin"), new Allergy("nuts")), Set.of(new Medicine("metformin"))));
+        assertParseSuccess(parser, "al\\penicillin m\\metformin al\\nuts", expectedFindCommand);
+
+        // only medicines
+        expectedFindCommand = new FindCommand(
+                new HasAllergyOrMedicinePredicate(Set.of(), Set.of(new Medicine("metformin"))));
+        assertParseSuccess(parser, "  m\\metformin ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_allergyWithKeywords_throwsParseException() {
+        assertParseFailure(parser, "Alice al\\nuts",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_blankAllergy_throwsParseException() {
+        assertParseFailure(parser, "al\\ m\\metformin", Allergy.MESSAGE_CONSTRAINTS);
+    }
+
 }
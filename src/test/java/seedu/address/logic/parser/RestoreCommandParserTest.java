@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.storage.AddressBookBackups;
+
+public class RestoreCommandParserTest {
+
+    private final AddressBookBackups backups = new AddressBookBackups(Paths.get("data", "healthnote.json"));
+    private final RestoreCommandParser parser = new RestoreCommandParser(backups);
+
+    @Test
+    public void parse_noArgs_returnsListingCommand() {
+        assertParseSuccess(parser, "", new RestoreCommand(backups, null));
+        assertParseSuccess(parser, "   ", new RestoreCommand(backups, null));
+    }
+
+    @Test
+    public void parse_backupNumber_returnsRestoreCommand() {
+        assertParseSuccess(parser, "3", new RestoreCommand(backups, Index.fromOneBased(3)));
+        assertParseSuccess(parser, "  12  ", new RestoreCommand(backups, Index.fromOneBased(12)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "-1", expectedMessage);
+        assertParseFailure(parser, "latest", expectedMessage);
+        assertParseFailure(parser, "1 2", expectedMessage);
+    }
+}
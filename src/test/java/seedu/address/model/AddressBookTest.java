@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -47,6 +48,48 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_fromAddressBook_copiesIndexes() {
+        AddressBook source = getTypicalAddressBook();
+        addressBook.resetData(source);
+        assertEquals(source, addressBook);
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertTrue(addressBook.findPersonById(ALICE.getIdentityNumber()).isPresent());
+    }
+
+    @Test
+    public void getVersion_changedOnlyByMutations() {
+        long version = addressBook.getVersion();
+        assertNotEquals(new AddressBook().getVersion(), version);
+
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        long addedVersion = addressBook.getVersion();
+        assertNotEquals(version, addedVersion);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertNotEquals(addedVersion, addressBook.getVersion());
+
+        long editedVersion = addressBook.getVersion();
+        addressBook.addAppointment(APPT_ALICE);
+        assertNotEquals(editedVersion, addressBook.getVersion());
+    }
+
+    @Test
+    public void resetData_copy_takesVersionOfSource() {
+        AddressBook source = getTypicalAddressBook();
+        addressBook.resetData(source);
+        assertEquals(source.getVersion(), addressBook.getVersion());
+
+        // copies that diverge afterwards never share a version again
+        addressBook.removePerson(ALICE);
+        source.removePerson(ALICE);
+        assertNotEquals(source.getVersion(), addressBook.getVersion());
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -220,6 +263,11 @@ public class AddressBookTest {
         public ObservableList<Appointment> getAppointmentList() {
             return appointments;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -14,15 +14,19 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.NameOrIdContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.ManualClock;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -94,6 +98,13 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findPersonById_personInAddressBook_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.findPersonById(ALICE.getIdentityNumber()));
+        assertEquals(Optional.empty(), modelManager.findPersonById(BENSON.getIdentityNumber()));
+    }
+
     @Test
     public void deletePerson_personExists_removesPersonAndAssociatedAppointments() {
         modelManager.addPerson(ALICE);
@@ -116,6 +127,113 @@ public class ModelManagerTest {
     }
 
 
+    @Test
+    public void setPerson_identityNumberChanged_movesAssociatedAppointments() {
+        modelManager.addPerson(ALICE);
+        Appointment appointmentForAlice =
+                new AppointmentBuilder(APPT_ALICE).withPatientId(ALICE.getIdentityNumber()).build();
+        modelManager.addAppointment(appointmentForAlice);
+
+        Person editedAlice = new PersonBuilder(ALICE).withIdentityNumber("AP99").build();
+        modelManager.setPerson(ALICE, editedAlice);
+
+        assertFalse(modelManager.hasAppointment(appointmentForAlice));
+        assertTrue(modelManager.hasAppointment(
+                new AppointmentBuilder(appointmentForAlice).withPatientId(editedAlice.getIdentityNumber()).build()));
+    }
+
+    @Test
+    public void addAppointment_outOfOrder_upcomingAndPastListsSorted() {
+        Appointment laterUpcoming = new AppointmentBuilder().withTime("02-01-9999 10:00")
+                .withPatientId(ALICE.getIdentityNumber()).build();
+        Appointment earlierUpcoming = new AppointmentBuilder().withTime("01-01-9999 10:00")
+                .withPatientId(BENSON.getIdentityNumber()).build();
+        modelManager.addAppointment(APPT_BENSON);
+        modelManager.addAppointment(laterUpcoming);
+        modelManager.addAppointment(APPT_ALICE);
+        modelManager.addAppointment(earlierUpcoming);
+
+        assertEquals(Arrays.asList(earlierUpcoming, laterUpcoming), modelManager.getUpcomingAppointmentList());
+        assertEquals(Arrays.asList(APPT_ALICE, APPT_BENSON), modelManager.getPastAppointmentList());
+    }
+
+    @Test
+    public void setViewedPerson_appointmentsChanged_viewedListsFollowViewedPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Appointment upcomingForAlice = new AppointmentBuilder().withTime("01-01-9999 10:00")
+                .withPatientId(ALICE.getIdentityNumber()).build();
+        modelManager.addAppointment(APPT_ALICE);
+        modelManager.setViewedPerson(ALICE);
+
+        modelManager.addAppointment(upcomingForAlice);
+        modelManager.addAppointment(APPT_BENSON);
+        assertEquals(Arrays.asList(upcomingForAlice), modelManager.getViewedPersonUpcomingAppointmentList());
+        assertEquals(Arrays.asList(APPT_ALICE), modelManager.getViewedPersonPastAppointmentList());
+
+        modelManager.deleteAppointment(upcomingForAlice);
+        assertTrue(modelManager.getViewedPersonUpcomingAppointmentList().isEmpty());
+
+        modelManager.setViewedPerson(BENSON);
+        assertEquals(Arrays.asList(APPT_BENSON), modelManager.getViewedPersonPastAppointmentList());
+
+        modelManager.setViewedPerson(null);
+        assertTrue(modelManager.getViewedPersonPastAppointmentList().isEmpty());
+    }
+
+    @Test
+    public void updateAppointmentBoundary_timePasses_movesPassedAppointmentsToPast() {
+        ManualClock clock = new ManualClock(LocalDateTime.of(2020, 11, 30, 0, 0));
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(), clock);
+        model.addPerson(ALICE);
+        model.addAppointment(APPT_ALICE);
+        model.addAppointment(APPT_BENSON);
+        model.setViewedPerson(ALICE);
+        assertEquals(Arrays.asList(APPT_ALICE, APPT_BENSON), model.getUpcomingAppointmentList());
+
+        clock.setTime(APPT_ALICE.getDateTime().getDateTime());
+        Optional<LocalDateTime> nextBoundary = model.updateAppointmentBoundary();
+
+        assertEquals(Optional.of(APPT_BENSON.getDateTime().getDateTime()), nextBoundary);
+        assertEquals(Arrays.asList(APPT_BENSON), model.getUpcomingAppointmentList());
+        assertEquals(Arrays.asList(APPT_ALICE), model.getPastAppointmentList());
+        assertTrue(model.getViewedPersonUpcomingAppointmentList().isEmpty());
+        assertEquals(Arrays.asList(APPT_ALICE), model.getViewedPersonPastAppointmentList());
+
+        clock.setTime(APPT_BENSON.getDateTime().getDateTime().plusDays(1));
+        assertEquals(Optional.empty(), model.updateAppointmentBoundary());
+        assertEquals(Arrays.asList(APPT_ALICE, APPT_BENSON), model.getPastAppointmentList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_keywordPredicate_followsEdits() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameOrIdContainsKeywordsPredicate(Arrays.asList("pauline", "x1")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        Person bensonWithNewId = new PersonBuilder(BENSON).withIdentityNumber("X1").build();
+        modelManager.setPerson(BENSON, bensonWithNewId);
+
+        assertEquals(Arrays.asList(ALICE, bensonWithNewId), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankedPredicate_ordersByRelevance() {
+        Person bernice = new PersonBuilder().withName("Bernice Yu").withIdentityNumber("BY1").build();
+        Person bernard = new PersonBuilder().withName("Bernard Yu").withIdentityNumber("BY2").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(bernard);
+        modelManager.addPerson(bernice);
+
+        modelManager.updateFilteredPersonList(new NameSimilarToPredicate("bernise yu"));
+        assertEquals(bernice, modelManager.getFilteredPersonList().get(0));
+        assertFalse(modelManager.getFilteredPersonList().contains(ALICE));
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, bernard, bernice), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -193,13 +311,14 @@ public class ModelManagerTest {
         // resets modelManager to initial state
         modelManager.updateFilteredAppointmentList(a -> true);
 
-        // different viewedPersonAppointmentList -> returns false
-        ModelManager modelManagerWithUpcoming = new ModelManager(addressBook, userPrefs);
-        Appointment future = new AppointmentBuilder()
-                .withTime(LocalDateTime.now().plusDays(1).format(AppointmentBuilder.FORMATTER))
-                .build();
-        modelManagerWithUpcoming.getFilteredAppointmentList(new IdentityNumber("abcde"));
-        assertFalse(modelManager.equals(modelManagerWithUpcoming));
+        // different viewed person timeline -> returns false
+        ModelManager viewedBeforeAppointment = new ModelManager(addressBook, userPrefs,
+                new ManualClock(LocalDateTime.of(2020, 11, 30, 0, 0)));
+        ModelManager viewedAfterAppointment = new ModelManager(addressBook, userPrefs,
+                new ManualClock(APPT_ALICE.getDateTime().getDateTime().plusDays(1)));
+        viewedBeforeAppointment.setViewedPerson(ALICE);
+        viewedAfterAppointment.setViewedPerson(ALICE);
+        assertFalse(viewedBeforeAppointment.equals(viewedAfterAppointment));
     }
 
 }
@@ -7,6 +7,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
 import static seedu.address.testutil.TypicalAppointments.APPT_BENSON;
+import static seedu.address.testutil.TypicalAppointments.APPT_CARL;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,6 +19,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 import seedu.address.testutil.AppointmentBuilder;
@@ -130,6 +135,25 @@ public class AppointmentListTest {
         assertEquals(expectedList, appointmentList);
     }
 
+    @Test
+    public void remove_sameIdentityDifferentNotes_throwsAppointmentNotFoundException() {
+        appointmentList.add(APPT_ALICE);
+        Appointment editedAlice = new AppointmentBuilder(APPT_ALICE).withNotes("Changed notes").build();
+        assertThrows(AppointmentNotFoundException.class, () -> appointmentList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_earlierAppointment_keepsLaterAppointmentsIndexed() {
+        appointmentList.setAppointments(Arrays.asList(APPT_ALICE, APPT_BENSON, APPT_CARL));
+        appointmentList.remove(APPT_ALICE);
+        Appointment editedCarl = new AppointmentBuilder(APPT_CARL).withNotes("Changed notes").build();
+        appointmentList.setAppointment(APPT_CARL, editedCarl);
+        appointmentList.remove(APPT_BENSON);
+        assertEquals(Collections.singletonList(editedCarl), appointmentList.asUnmodifiableObservableList());
+        assertTrue(appointmentList.contains(APPT_CARL));
+        assertFalse(appointmentList.contains(APPT_BENSON));
+    }
+
     @Test
     public void setAppointments_nullAppointmentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> appointmentList.setAppointments((AppointmentList) null));
@@ -166,6 +190,17 @@ public class AppointmentListTest {
                 appointmentList.setAppointments(listWithDuplicateAppointments));
     }
 
+    @Test
+    public void setAppointments_listWithSeveralDuplicates_reportsEveryDuplicate() {
+        Appointment editedApptAlice = new AppointmentBuilder(APPT_ALICE).withNotes("Changed notes").build();
+        List<Appointment> listWithDuplicateAppointments =
+                Arrays.asList(APPT_ALICE, APPT_BENSON, editedApptAlice, APPT_BENSON);
+        DuplicateAppointmentException exception = assertThrows(DuplicateAppointmentException.class, () ->
+                appointmentList.setAppointments(listWithDuplicateAppointments));
+        assertEquals(Arrays.asList(editedApptAlice, APPT_BENSON), exception.getDuplicates());
+        assertTrue(appointmentList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -186,11 +221,88 @@ public class AppointmentListTest {
         assertEquals(expectedList, appointmentList);
     }
 
+    @Test
+    public void removeAll_someAppointmentsExist_removesExistingAppointments() {
+        appointmentList.setAppointments(Arrays.asList(APPT_ALICE, APPT_BENSON, APPT_CARL));
+        appointmentList.removeAll(APPT_ALICE, APPT_BENSON);
+        appointmentList.removeAll(APPT_BENSON, APPT_CARL);
+        assertEquals(new AppointmentList(), appointmentList);
+        assertFalse(appointmentList.contains(APPT_CARL));
+    }
+
     @Test
     public void removeAll_appointmentsDoNotExist_throwsAppointmentNotFoundException() {
         assertThrows(AppointmentNotFoundException.class, () -> appointmentList.removeAll(APPT_ALICE, APPT_BENSON));
     }
 
+    @Test
+    public void removeAllOf_patientWithAppointments_removesOnlyTheirAppointmentsInOneChange() {
+        Appointment laterApptAlice = new AppointmentBuilder(APPT_ALICE).withTime("01-12-2030 09:00").build();
+        appointmentList.setAppointments(Arrays.asList(APPT_ALICE, APPT_BENSON, laterApptAlice, APPT_CARL));
+        int[] changeCount = {0};
+        appointmentList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Appointment>) change -> changeCount[0]++);
+
+        appointmentList.removeAllOf(ALICE.getIdentityNumber());
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(APPT_BENSON, APPT_CARL), appointmentList.asUnmodifiableObservableList());
+        assertEquals(Collections.emptyList(), appointmentList.getAppointmentsOf(ALICE.getIdentityNumber()));
+        appointmentList.remove(APPT_CARL);
+        assertEquals(Collections.singletonList(APPT_BENSON), appointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAllOf_patientWithoutAppointments_doesNothing() {
+        appointmentList.add(APPT_BENSON);
+        appointmentList.removeAllOf(ALICE.getIdentityNumber());
+        assertEquals(Collections.singletonList(APPT_BENSON), appointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void reassignAll_newPatientId_movesAppointmentsInPlace() {
+        appointmentList.setAppointments(Arrays.asList(APPT_ALICE, APPT_BENSON));
+        int[] changeCount = {0};
+        appointmentList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Appointment>) change -> changeCount[0]++);
+
+        appointmentList.reassignAll(ALICE.getIdentityNumber(), CARL.getIdentityNumber());
+
+        Appointment reassignedApptAlice = new AppointmentBuilder(APPT_ALICE)
+                .withPatientId(CARL.getIdentityNumber()).build();
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(reassignedApptAlice, APPT_BENSON), appointmentList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(reassignedApptAlice),
+                appointmentList.getAppointmentsOf(CARL.getIdentityNumber()));
+        assertFalse(appointmentList.contains(APPT_ALICE));
+        assertTrue(appointmentList.contains(reassignedApptAlice));
+    }
+
+    @Test
+    public void reassignAll_patientIdWithAppointments_keepsTheirAppointments() {
+        appointmentList.setAppointments(Arrays.asList(APPT_ALICE, APPT_BENSON, APPT_CARL));
+
+        appointmentList.reassignAll(ALICE.getIdentityNumber(), BENSON.getIdentityNumber());
+
+        Appointment reassignedApptAlice = new AppointmentBuilder(APPT_ALICE)
+                .withPatientId(BENSON.getIdentityNumber()).build();
+        assertEquals(Arrays.asList(APPT_BENSON, reassignedApptAlice),
+                appointmentList.getAppointmentsOf(BENSON.getIdentityNumber()));
+        appointmentList.removeAllOf(BENSON.getIdentityNumber());
+        assertEquals(Collections.singletonList(APPT_CARL), appointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void reassignAll_clashWithExistingAppointment_throwsDuplicateAppointmentException() {
+        Appointment apptBensonAtAliceTime = new AppointmentBuilder(APPT_ALICE)
+                .withPatientId(BENSON.getIdentityNumber()).build();
+        appointmentList.setAppointments(Arrays.asList(APPT_ALICE, apptBensonAtAliceTime));
+        assertThrows(DuplicateAppointmentException.class, () ->
+                appointmentList.reassignAll(ALICE.getIdentityNumber(), BENSON.getIdentityNumber()));
+        assertEquals(Collections.singletonList(APPT_ALICE),
+                appointmentList.getAppointmentsOf(ALICE.getIdentityNumber()));
+    }
+
     @Test
     public void equals_sameObject_returnsTrue() {
         assertEquals(appointmentList, appointmentList);
@@ -0,0 +1,176 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
+import static seedu.address.testutil.TypicalAppointments.APPT_BENSON;
+import static seedu.address.testutil.TypicalAppointments.APPT_CARL;
+import static seedu.address.testutil.TypicalAppointments.APPT_DANIEL;
+import static seedu.address.testutil.TypicalAppointments.APPT_ELLE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.testutil.AppointmentBuilder;
+
+public class AppointmentTimelineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final AppointmentTimeline timeline = new AppointmentTimeline();
+
+    @BeforeEach
+    public void setUp() {
+        timeline.advanceTo(NOW);
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> timeline.add(null));
+    }
+
+    @Test
+    public void add_outOfOrder_splitsAroundNowInChronologicalOrder() {
+        timeline.add(APPT_DANIEL);
+        timeline.add(APPT_BENSON);
+        timeline.add(APPT_CARL);
+        timeline.add(APPT_ALICE);
+
+        assertEquals(List.of(APPT_ALICE, APPT_BENSON), timeline.getPastAppointments());
+        assertEquals(List.of(APPT_CARL, APPT_DANIEL), timeline.getUpcomingAppointments());
+    }
+
+    @Test
+    public void add_sameTimeDifferentPatients_orderedByPatientId() {
+        Appointment bensonAtAliceTime = new AppointmentBuilder(APPT_ALICE)
+                .withPatientId(BENSON.getIdentityNumber()).build();
+        timeline.add(bensonAtAliceTime);
+        timeline.add(APPT_ALICE);
+
+        List<Appointment> expected = List.of(APPT_ALICE, bensonAtAliceTime).stream()
+                .sorted(AppointmentTimeline.CHRONOLOGICAL_ORDER)
+                .toList();
+        assertEquals(expected, timeline.getPastAppointments());
+    }
+
+    @Test
+    public void add_appointment_notifiesSingleElementChange() {
+        timeline.setAll(List.of(APPT_CARL, APPT_ELLE), NOW);
+        List<Appointment> added = new ArrayList<>();
+        timeline.getUpcomingAppointments().addListener((ListChangeListener<Appointment>) change -> {
+            while (change.next()) {
+                assertTrue(change.getRemoved().isEmpty());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        timeline.add(APPT_DANIEL);
+
+        assertEquals(List.of(APPT_DANIEL), added);
+        assertEquals(List.of(APPT_CARL, APPT_DANIEL, APPT_ELLE), timeline.getUpcomingAppointments());
+    }
+
+    @Test
+    public void remove_appointmentInTimeline_removesFromSplit() {
+        timeline.setAll(List.of(APPT_ALICE, APPT_BENSON, APPT_CARL), NOW);
+
+        timeline.remove(APPT_BENSON);
+        timeline.remove(APPT_CARL);
+
+        assertEquals(List.of(APPT_ALICE), timeline.getPastAppointments());
+        assertTrue(timeline.getUpcomingAppointments().isEmpty());
+        assertEquals(List.of(APPT_ALICE), timeline.getAppointmentsBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void remove_appointmentNotInTimeline_doesNothing() {
+        timeline.setAll(List.of(APPT_ALICE), NOW);
+
+        timeline.remove(APPT_CARL);
+
+        assertEquals(List.of(APPT_ALICE), timeline.getPastAppointments());
+    }
+
+    @Test
+    public void setAll_unsortedAppointments_replacesContents() {
+        timeline.add(APPT_ELLE);
+
+        timeline.setAll(List.of(APPT_DANIEL, APPT_ALICE, APPT_CARL, APPT_BENSON), NOW);
+
+        assertEquals(List.of(APPT_ALICE, APPT_BENSON), timeline.getPastAppointments());
+        assertEquals(List.of(APPT_CARL, APPT_DANIEL), timeline.getUpcomingAppointments());
+    }
+
+    @Test
+    public void advanceTo_laterTime_movesOnlyCrossedAppointments() {
+        timeline.setAll(List.of(APPT_ALICE, APPT_CARL, APPT_DANIEL, APPT_ELLE), NOW);
+        List<Appointment> removed = new ArrayList<>();
+        timeline.getUpcomingAppointments().addListener((ListChangeListener<Appointment>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        int moved = timeline.advanceTo(APPT_DANIEL.getDateTime().getDateTime());
+
+        assertEquals(2, moved);
+        assertEquals(List.of(APPT_CARL, APPT_DANIEL), removed);
+        assertEquals(List.of(APPT_ALICE, APPT_CARL, APPT_DANIEL), timeline.getPastAppointments());
+        assertEquals(List.of(APPT_ELLE), timeline.getUpcomingAppointments());
+        assertEquals(Optional.of(APPT_ELLE.getDateTime().getDateTime()), timeline.getNextBoundary());
+    }
+
+    @Test
+    public void advanceTo_earlierTime_doesNothing() {
+        LocalDateTime later = APPT_CARL.getDateTime().getDateTime();
+        timeline.setAll(List.of(APPT_CARL, APPT_DANIEL), later);
+
+        assertEquals(0, timeline.advanceTo(NOW));
+
+        assertEquals(List.of(APPT_CARL), timeline.getPastAppointments());
+        assertEquals(List.of(APPT_DANIEL), timeline.getUpcomingAppointments());
+    }
+
+    @Test
+    public void add_afterAdvance_usesBoundary() {
+        timeline.advanceTo(APPT_DANIEL.getDateTime().getDateTime());
+
+        timeline.add(APPT_CARL);
+        timeline.add(APPT_ELLE);
+
+        assertEquals(List.of(APPT_CARL), timeline.getPastAppointments());
+        assertEquals(List.of(APPT_ELLE), timeline.getUpcomingAppointments());
+    }
+
+    @Test
+    public void getNextBoundary_noUpcomingAppointments_returnsEmpty() {
+        timeline.add(APPT_ALICE);
+
+        assertEquals(Optional.empty(), timeline.getNextBoundary());
+    }
+
+    @Test
+    public void getAppointmentsBetween_inclusiveRange_returnsChronologicalAppointments() {
+        timeline.setAll(List.of(APPT_ELLE, APPT_DANIEL, APPT_CARL, APPT_BENSON, APPT_ALICE), NOW);
+
+        LocalDateTime from = APPT_BENSON.getDateTime().getDateTime();
+        LocalDateTime to = APPT_DANIEL.getDateTime().getDateTime();
+
+        assertEquals(List.of(APPT_BENSON, APPT_CARL, APPT_DANIEL), timeline.getAppointmentsBetween(from, to));
+        assertTrue(timeline.getAppointmentsBetween(to, from).isEmpty());
+    }
+
+    @Test
+    public void getUpcomingAppointments_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> timeline.getUpcomingAppointments().add(APPT_CARL));
+        assertThrows(UnsupportedOperationException.class, () -> timeline.getPastAppointments().add(APPT_ALICE));
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class HasAllergyOrMedicinePredicateTest {
+
+    @Test
+    public void equals() {
+        HasAllergyOrMedicinePredicate firstPredicate =
+                new HasAllergyOrMedicinePredicate(Set.of(new Allergy("nuts")), Set.of());
+        HasAllergyOrMedicinePredicate secondPredicate =
+                new HasAllergyOrMedicinePredicate(Set.of(), Set.of(new Medicine("nuts")));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new HasAllergyOrMedicinePredicate(Set.of(new Allergy("nuts")), Set.of())));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // same name as a medicine instead of an allergy -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_hasAllergyOrMedicine_returnsTrue() {
+        HasAllergyOrMedicinePredicate predicate = new HasAllergyOrMedicinePredicate(
+                Set.of(new Allergy("Penicillin")), Set.of(new Medicine("metformin")));
+
+        // Matching allergy, mixed case
+        assertTrue(predicate.test(new PersonBuilder().withAllergies("penicillin").withMedicines().build()));
+
+        // Matching medicine
+        assertTrue(predicate.test(new PersonBuilder().withAllergies().withMedicines("Metformin").build()));
+    }
+
+    @Test
+    public void test_noMatchingAllergyOrMedicine_returnsFalse() {
+        HasAllergyOrMedicinePredicate predicate = new HasAllergyOrMedicinePredicate(
+                Set.of(new Allergy("penicillin")), Set.of(new Medicine("metformin")));
+
+        // Allergy name taken as a medicine
+        assertFalse(predicate.test(new PersonBuilder().withAllergies().withMedicines("penicillin").build()));
+
+        // Only part of the name matches
+        assertFalse(predicate.test(new PersonBuilder().withAllergies("penicillin v").withMedicines().build()));
+    }
+
+    @Test
+    public void bindTo_personList_matchesSameAsTest() {
+        Person allergic = new PersonBuilder().withIdentityNumber("S1234567A").withAllergies("nuts").build();
+        Person other = new PersonBuilder().withIdentityNumber("S7654321B").withAllergies("dust")
+                .withMedicines("aspirin").build();
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(allergic);
+        persons.add(other);
+
+        HasAllergyOrMedicinePredicate predicate =
+                new HasAllergyOrMedicinePredicate(Set.of(new Allergy("NUTS")), Set.of(new Medicine("ibuprofen")));
+        Predicate<Person> bound = predicate.bindTo(persons);
+        assertTrue(bound.test(allergic));
+        assertFalse(bound.test(other));
+
+        Person otherTakingIbuprofen = new PersonBuilder(other).withMedicines("ibuprofen").build();
+        persons.setPerson(other, otherTakingIbuprofen);
+        assertTrue(bound.test(otherTakingIbuprofen));
+    }
+
+    @Test
+    public void toStringMethod() {
+        HasAllergyOrMedicinePredicate predicate =
+                new HasAllergyOrMedicinePredicate(Set.of(new Allergy("nuts")), Set.of(new Medicine("aspirin")));
+
+        String expected = HasAllergyOrMedicinePredicate.class.getCanonicalName()
+                + "{allergies=[[nuts]], medicines=[[aspirin]]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameOrIdStartsWithKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        NameOrIdStartsWithKeywordsPredicate firstPredicate = new NameOrIdStartsWithKeywordsPredicate(List.of("al"));
+        NameOrIdStartsWithKeywordsPredicate secondPredicate =
+                new NameOrIdStartsWithKeywordsPredicate(List.of("al", "be"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameOrIdStartsWithKeywordsPredicate(List.of("al"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different prefixes -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameOrIdStartsWithPrefix_returnsTrue() {
+        // Prefix of second name word
+        NameOrIdStartsWithKeywordsPredicate predicate = new NameOrIdStartsWithKeywordsPredicate(List.of("Bo"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Mixed-case prefix of identity number
+        predicate = new NameOrIdStartsWithKeywordsPredicate(List.of("a2"));
+        assertTrue(predicate.test(new PersonBuilder().withIdentityNumber("A23").build()));
+
+        // Whole word
+        predicate = new NameOrIdStartsWithKeywordsPredicate(List.of("carol", "dan"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Carol").build()));
+    }
+
+    @Test
+    public void test_nameOrIdDoesNotStartWithPrefix_returnsFalse() {
+        // No prefixes
+        NameOrIdStartsWithKeywordsPredicate predicate = new NameOrIdStartsWithKeywordsPredicate(
+                Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Infix of a word
+        predicate = new NameOrIdStartsWithKeywordsPredicate(List.of("lic", "23"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").withIdentityNumber("A23").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> prefixes = List.of("al", "be");
+        NameOrIdStartsWithKeywordsPredicate predicate = new NameOrIdStartsWithKeywordsPredicate(prefixes);
+
+        String expected = NameOrIdStartsWithKeywordsPredicate.class.getCanonicalName() + "{prefixes=" + prefixes + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
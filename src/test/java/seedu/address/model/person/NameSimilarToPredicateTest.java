@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSimilarToPredicateTest {
+
+    @Test
+    public void equals() {
+        NameSimilarToPredicate firstPredicate = new NameSimilarToPredicate("bernise");
+        NameSimilarToPredicate secondPredicate = new NameSimilarToPredicate("alise");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSimilarToPredicate("bernise")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_similarName_returnsTrue() {
+        NameSimilarToPredicate predicate = new NameSimilarToPredicate("Bernise Yu");
+        assertTrue(predicate.test(new PersonBuilder().withName("Bernice Yu").build()));
+
+        // Mixed case
+        predicate = new NameSimilarToPredicate("aLIse pauLINE");
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Pauline").build()));
+    }
+
+    @Test
+    public void test_dissimilarName_returnsFalse() {
+        NameSimilarToPredicate predicate = new NameSimilarToPredicate("Bernise Yu");
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Pauline").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NameSimilarToPredicate predicate = new NameSimilarToPredicate("bernise");
+
+        String expected = NameSimilarToPredicate.class.getCanonicalName() + "{query=bernise}";
+        assertEquals(expected, predicate.toString());
+    }
+}
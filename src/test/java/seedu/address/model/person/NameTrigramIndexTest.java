@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private static final Person BERNICE = new PersonBuilder().withName("Bernice Yu").withIdentityNumber("BY1").build();
+    private static final Person BERNARD = new PersonBuilder().withName("Bernard Yu").withIdentityNumber("BY2").build();
+
+    private final NameTrigramIndex index = new NameTrigramIndex();
+
+    @Test
+    public void trigramsOf_text_returnsPaddedLowerCasedWordTrigrams() {
+        assertEquals(Set.of("  y", " yu", "yu ", "  a", " ab", "ab "), NameTrigramIndex.trigramsOf("Yu  AB"));
+        assertTrue(NameTrigramIndex.trigramsOf("  ").isEmpty());
+    }
+
+    @Test
+    public void trigramsOf_turkishDefaultLocale_sameAsRootLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals(Set.of("  i", " id", "ida", "da "), NameTrigramIndex.trigramsOf("IDA"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void similarity_trigramSets_returnsDiceCoefficient() {
+        Set<String> trigrams = NameTrigramIndex.trigramsOf("Bernice Yu");
+        assertEquals(1.0, NameTrigramIndex.similarity(trigrams, trigrams));
+        assertEquals(0.0, NameTrigramIndex.similarity(trigrams, NameTrigramIndex.trigramsOf("Xavier")));
+        assertEquals(0.0, NameTrigramIndex.similarity(Set.of(), Set.of()));
+    }
+
+    @Test
+    public void findSimilar_misspelledName_returnsSimilarNamesOnly() {
+        index.setAll(List.of(ALICE, BENSON, DANIEL, BERNICE, BERNARD));
+
+        Map<IdentityNumber, Double> similarities = index.findSimilar("bernise yu");
+
+        assertTrue(similarities.containsKey(BERNICE.getIdentityNumber()));
+        assertFalse(similarities.containsKey(ALICE.getIdentityNumber()));
+        assertFalse(similarities.containsKey(BENSON.getIdentityNumber()));
+        assertTrue(similarities.get(BERNICE.getIdentityNumber())
+                > similarities.getOrDefault(BERNARD.getIdentityNumber(), 0.0));
+    }
+
+    @Test
+    public void matchingSimilar_ranksMostSimilarFirst() {
+        index.setAll(List.of(BERNARD, BERNICE, ALICE));
+        NameTrigramIndex.SimilarNameMatches matches = index.matchingSimilar("Bernice");
+
+        List<Person> ranked = new ArrayList<>(List.of(BERNARD, BERNICE, ALICE));
+        ranked.removeIf(matches.negate());
+        ranked.sort(matches);
+
+        assertEquals(BERNICE, ranked.get(0));
+        assertFalse(ranked.contains(ALICE));
+    }
+
+    @Test
+    public void matchingSimilar_indexChanged_followsIndex() {
+        index.add(ALICE);
+        NameTrigramIndex.SimilarNameMatches matches = index.matchingSimilar("Alise Pauline");
+        assertTrue(matches.test(ALICE));
+
+        index.remove(ALICE);
+
+        assertFalse(matches.test(ALICE));
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonFacetIndex.Facet;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonFacetIndexTest {
+
+    private final PersonFacetIndex index = new PersonFacetIndex();
+
+    @Test
+    public void valuesOf_tags_returnsLowerCasedTagNames() {
+        assertEquals(Set.of("owesmoney", "friends"), Facet.TAG.valuesOf(BENSON));
+        assertEquals(Set.of("heavy smoker"), Facet.SMOKING_RECORD.valuesOf(BENSON));
+    }
+
+    @Test
+    public void withAny_valuesInAnyCase_returnsUnionOfBitmaps() {
+        index.setAll(List.of(ALICE, BENSON, CARL));
+
+        assertEquals(2, index.withAny(Facet.GENDER, List.of("m")).cardinality());
+        assertEquals(3, index.withAny(Facet.SMOKING_RECORD, List.of("NON-SMOKER", "heavy smoker")).cardinality());
+        assertTrue(index.withAny(Facet.TAG, List.of("nobody")).isEmpty());
+    }
+
+    @Test
+    public void remove_person_reusesOrdinalForNextPerson() {
+        index.setAll(List.of(ALICE, BENSON));
+        BitSet bothPersons = index.all();
+
+        index.remove(ALICE);
+        index.add(CARL);
+
+        assertEquals(bothPersons, index.all());
+        assertTrue(index.withAny(Facet.GENDER, List.of("F")).isEmpty());
+        assertEquals(index.all(), index.withAny(Facet.GENDER, List.of("M")));
+    }
+
+    @Test
+    public void bornOnOrBefore_dateInYear_checksBirthDatesInThatYearOnly() {
+        index.setAll(List.of(personBornOn("AA1", LocalDate.of(1960, 6, 15), "earlier"),
+                personBornOn("AA2", LocalDate.of(1960, 6, 16), "later"),
+                personBornOn("AA3", LocalDate.of(1959, 12, 31), "yearBefore")));
+
+        BitSet matches = index.bornOnOrBefore(LocalDate.of(1960, 6, 15));
+
+        assertEquals(index.withAny(Facet.TAG, List.of("earlier", "yearBefore")), matches);
+    }
+
+    @Test
+    public void matching_compoundExpression_agreesWithTest() {
+        LocalDate today = LocalDate.of(2026, 10, 18);
+        Person senior = personBornOn("SN1", today.minusYears(65), "senior");
+        Person turnsSixtyTomorrow = personBornOn("SN2", today.minusYears(60).plusDays(1), "almostSenior");
+        List<Person> persons = List.of(ALICE, BENSON, CARL, FIONA, senior, turnsSixtyTomorrow);
+        index.setAll(persons);
+        FacetExpression expression = FacetExpression.or(List.of(
+                FacetExpression.and(List.of(
+                        FacetExpression.hasAny(Facet.SMOKING_RECORD, List.of("Heavy Smoker")),
+                        FacetExpression.not(FacetExpression.hasAny(Facet.TAG, List.of("friends"))))),
+                FacetExpression.ageAtLeast(60)));
+
+        Predicate<Person> predicate = index.matching(expression, today);
+
+        assertEquals(List.of(FIONA, senior), persons.stream().filter(predicate).toList());
+        assertEquals(List.of(FIONA, senior), persons.stream().filter(person -> expression.test(person, today))
+                .toList());
+    }
+
+    @Test
+    public void matching_indexChanged_followsIndex() {
+        index.setAll(List.of(ALICE, BENSON));
+        Predicate<Person> predicate = index.matching(FacetExpression.hasAny(Facet.TAG, List.of("urgent")),
+                LocalDate.now());
+        assertFalse(predicate.test(ALICE));
+
+        Person urgentAlice = new PersonBuilder(ALICE).withTags("urgent").build();
+        index.remove(ALICE);
+        index.add(urgentAlice);
+
+        assertTrue(predicate.test(urgentAlice));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void matching_dateGiven_agesOnThatDate() {
+        Person bornIn1945 = personBornOn("SN1", LocalDate.of(1945, 1, 1), "senior");
+        index.setAll(List.of(bornIn1945));
+
+        assertFalse(index.matching(FacetExpression.ageAtLeast(60), LocalDate.of(2000, 1, 1)).test(bornIn1945));
+        assertTrue(index.matching(FacetExpression.ageAtLeast(60), LocalDate.of(2005, 1, 1)).test(bornIn1945));
+    }
+
+    private static Person personBornOn(String identityNumber, LocalDate dateOfBirth, String tag) {
+        return new PersonBuilder().withIdentityNumber(identityNumber).withTags(tag)
+                .withDateOfBirth(dateOfBirth.format(DateOfBirth.DATE_FORMATTER)).build();
+    }
+}
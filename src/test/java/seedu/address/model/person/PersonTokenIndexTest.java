@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTokenIndexTest {
+
+    private final PersonTokenIndex index = new PersonTokenIndex();
+
+    @Test
+    public void tokensOf_person_returnsLowerCasedNameWordsAndId() {
+        assertEquals(Set.of("alice", "pauline", "ap67"), PersonTokenIndex.tokensOf(ALICE));
+    }
+
+    @Test
+    public void findAny_keywordsInAnyCase_returnsUnionOfMatches() {
+        index.setAll(List.of(ALICE, BENSON, DANIEL));
+
+        assertEquals(Set.of(BENSON.getIdentityNumber(), DANIEL.getIdentityNumber()),
+                index.findAny(List.of("MEIER")));
+        assertEquals(Set.of(ALICE.getIdentityNumber(), BENSON.getIdentityNumber()),
+                index.findAny(List.of("alice", "bm67", "nobody")));
+        assertTrue(index.findAny(List.of("Ali")).isEmpty());
+    }
+
+    @Test
+    public void findAny_turkishDefaultLocale_matchesDottedCapitalI() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            index.setAll(List.of(ALICE));
+            assertEquals(Set.of(ALICE.getIdentityNumber()), index.findAny(List.of("alice")));
+            assertEquals(Set.of(ALICE.getIdentityNumber()), index.findAnyWithPrefix(List.of("ALI")));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void findAnyWithPrefix_prefixes_returnsPersonsWithTokensStartingWithThem() {
+        index.setAll(List.of(ALICE, BENSON, DANIEL));
+
+        assertEquals(Set.of(BENSON.getIdentityNumber(), DANIEL.getIdentityNumber()),
+                index.findAnyWithPrefix(List.of("MEI")));
+        assertEquals(Set.of(ALICE.getIdentityNumber(), DANIEL.getIdentityNumber()),
+                index.findAnyWithPrefix(List.of("ap", "dan")));
+        assertTrue(index.findAnyWithPrefix(List.of("z")).isEmpty());
+    }
+
+    @Test
+    public void remove_person_removesOnlyTheirTokens() {
+        index.setAll(List.of(BENSON, DANIEL));
+
+        index.remove(BENSON);
+
+        assertEquals(Set.of(DANIEL.getIdentityNumber()), index.findAny(List.of("meier")));
+        assertTrue(index.findAny(List.of("benson")).isEmpty());
+    }
+
+    @Test
+    public void matchingAny_indexChanged_followsIndex() {
+        index.add(ALICE);
+        Predicate<Person> predicate = index.matchingAny(List.of("alice"));
+        assertTrue(predicate.test(ALICE));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        index.remove(ALICE);
+        index.add(renamedAlice);
+
+        assertFalse(predicate.test(renamedAlice));
+    }
+}
@@ -8,10 +8,13 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +130,37 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personBeforeOthers_keepsLaterPersonsReachable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build());
+        assertEquals(Optional.of(BOB), uniquePersonList.findById(BOB.getIdentityNumber()));
+        assertEquals(VALID_ADDRESS_BOB,
+                uniquePersonList.findById(CARL.getIdentityNumber()).get().getAddress().value);
+    }
+
+    @Test
+    public void findById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findById(null));
+    }
+
+    @Test
+    public void findById_personNotInList_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.findById(BOB.getIdentityNumber()));
+    }
+
+    @Test
+    public void findById_editedIdentity_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getIdentityNumber()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findById(BOB.getIdentityNumber()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +196,24 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicates_reportsEveryDuplicateId() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, CARL, BOB, ALICE);
+        String expectedMessage = new DuplicatePersonException(
+                Arrays.asList(ALICE.getIdentityNumber(), BOB.getIdentityNumber())).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void setPersons_list_indexesEveryPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.remove(BOB);
+        assertEquals(Optional.of(CARL), uniquePersonList.findById(CARL.getIdentityNumber()));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +224,26 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void bind_keywordPredicate_matchesPersonsAfterChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        Predicate<Person> predicate = uniquePersonList.bind(new NameOrIdContainsKeywordsPredicate(List.of("carl")));
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(CARL));
+
+        Person aliceNamedCarl = new PersonBuilder(ALICE).withName("Carl Pauline").build();
+        uniquePersonList.setPerson(ALICE, aliceNamedCarl);
+        uniquePersonList.remove(CARL);
+
+        assertTrue(predicate.test(aliceNamedCarl));
+        assertFalse(predicate.test(CARL));
+    }
+
+    @Test
+    public void bind_otherPredicate_returnsSamePredicate() {
+        Predicate<Person> predicate = person -> true;
+        assertTrue(uniquePersonList.bind(predicate) == predicate);
+    }
 }
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
+import static seedu.address.testutil.TypicalAppointments.APPT_BENSON;
+import static seedu.address.testutil.TypicalAppointments.APPT_CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.AddressBookBackups.Backup;
+
+public class AddressBookBackupsTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T09:30:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookBackups(testFolder, CLOCK, -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookBackups(testFolder, CLOCK, 5, 0));
+    }
+
+    @Test
+    public void list_missingFolder_noBackups() throws Exception {
+        assertEquals(List.of(), new AddressBookBackups(testFolder.resolve("none"), CLOCK, 5, 10).list());
+    }
+
+    @Test
+    public void backUp_changes_fullCopyThenDeltas() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, CLOCK, 5, 10);
+        AddressBook addressBook = getTypicalAddressBook();
+        assertTrue(backups.backUp(addressBook));
+        addressBook.addPerson(HOON);
+        assertTrue(backups.backUp(addressBook));
+
+        List<Backup> backupList = backups.list();
+        assertEquals(List.of(1, 2), backupList.stream().map(Backup::number).toList());
+        assertTrue(backupList.get(0).isFullCopy());
+        assertFalse(backupList.get(1).isFullCopy());
+        assertEquals(CLOCK.instant(), backupList.get(1).time().toInstant(ZoneOffset.UTC));
+        assertTrue(Files.size(backupList.get(1).filePath()) < Files.size(backupList.get(0).filePath()));
+    }
+
+    @Test
+    public void backUp_unchangedAddressBook_noBackup() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, CLOCK, 0, 10);
+        AddressBook addressBook = getTypicalAddressBook();
+        assertTrue(backups.backUp(addressBook));
+        assertFalse(backups.backUp(addressBook));
+        assertEquals(1, backups.list().size());
+    }
+
+    @Test
+    public void restore_everyBackup_addressBookAtThatTime() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, CLOCK, 2, 10);
+        List<AddressBook> expected = new ArrayList<>();
+        AddressBook addressBook = getTypicalAddressBook();
+        backUp(backups, addressBook, expected);
+        addressBook.addPerson(HOON);
+        backUp(backups, addressBook, expected);
+        addressBook.removeAppointment(APPT_CARL);
+        backUp(backups, addressBook, expected);
+        addressBook.addPerson(IDA);
+        backUp(backups, addressBook, expected);
+
+        // the fourth backup is a full copy, as the second and third are deltas
+        assertEquals(List.of(true, false, false, true), backups.list().stream().map(Backup::isFullCopy).toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), backups.restore(i + 1).get());
+        }
+        // a new run does not know what was backed up, so it starts with a full copy
+        AddressBookBackups nextRun = new AddressBookBackups(testFolder, CLOCK, 2, 10);
+        assertTrue(nextRun.backUp(addressBook));
+        assertTrue(nextRun.list().get(4).isFullCopy());
+        assertEquals(addressBook, nextRun.restore(5).get());
+    }
+
+    @Test
+    public void restore_missingBackup_emptyResult() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, CLOCK, 5, 10);
+        assertFalse(backups.restore(1).isPresent());
+        backups.backUp(getTypicalAddressBook());
+        assertFalse(backups.restore(2).isPresent());
+    }
+
+    @Test
+    public void restore_missingFullCopy_throwsDataLoadingException() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, CLOCK, 5, 10);
+        AddressBook addressBook = getTypicalAddressBook();
+        backups.backUp(addressBook);
+        addressBook.addPerson(HOON);
+        backups.backUp(addressBook);
+        Files.delete(backups.list().get(0).filePath());
+
+        assertThrows(DataLoadingException.class, () -> backups.restore(2));
+    }
+
+    @Test
+    public void backUp_moreThanMaxBackups_oldestChainsDeleted() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, CLOCK, 1, 3);
+        List<AddressBook> expected = new ArrayList<>();
+        AddressBook addressBook = getTypicalAddressBook();
+        backUp(backups, addressBook, expected);
+        addressBook.addPerson(HOON);
+        backUp(backups, addressBook, expected);
+        addressBook.addPerson(IDA);
+        backUp(backups, addressBook, expected);
+        addressBook.removeAppointment(APPT_ALICE);
+        backUp(backups, addressBook, expected);
+        addressBook.removeAppointment(APPT_BENSON);
+        backUp(backups, addressBook, expected);
+        addressBook.removeAppointment(APPT_CARL);
+        backUp(backups, addressBook, expected);
+
+        // backups 3 and 5 are full copies, and backup 4 needs backup 3, so only backups 1 and 2 are deleted
+        assertEquals(List.of(3, 4, 5, 6), backups.list().stream().map(Backup::number).toList());
+        for (int number = 3; number <= 6; number++) {
+            assertEquals(expected.get(number - 1), backups.restore(number).get());
+        }
+    }
+
+    private static void backUp(AddressBookBackups backups, AddressBook addressBook, List<AddressBook> expected)
+            throws Exception {
+        assertTrue(backups.backUp(addressBook));
+        expected.add(new AddressBook(addressBook));
+    }
+}
@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void changesBetween_unchangedLists_noEntries() {
+        List<Person> persons = List.of(ALICE, BENSON);
+        assertEquals(0, AddressBookJournal.changesBetween(persons, List.of(), new ArrayList<>(persons), List.of())
+                .size());
+    }
+
+    @Test
+    public void changesBetween_singleChanges_oneEntryEach() {
+        List<Person> saved = List.of(ALICE, BENSON, CARL);
+        Person editedBenson = new PersonBuilder(BENSON).withTags("asthmatic").build();
+
+        assertChangesReplayed(saved, List.of(ALICE, BENSON, CARL, HOON), 1);
+        assertChangesReplayed(saved, List.of(ALICE, editedBenson, CARL), 1);
+        assertChangesReplayed(saved, List.of(ALICE, CARL), 1);
+        assertChangesReplayed(saved, List.of(), 3);
+    }
+
+    @Test
+    public void changesBetween_reorderedAndMixedChanges_replayedInOrder() {
+        List<Person> saved = List.of(ALICE, BENSON, CARL, DANIEL);
+        Person editedDaniel = new PersonBuilder(DANIEL).withTags("diabetic").build();
+
+        assertChangesReplayed(saved, List.of(CARL, ALICE, HOON, editedDaniel, ELLE), 6);
+        assertChangesReplayed(saved, List.of(DANIEL, CARL, BENSON, ALICE), 6);
+    }
+
+    @Test
+    public void replay_uncommittedEntries_rolledBackAndTruncated() throws Exception {
+        AddressBookJournal journal = newJournal();
+        journal.append(AddressBookJournal.changesBetween(List.of(ALICE), List.of(), List.of(ALICE, BENSON),
+                List.of()));
+        long committedSize = Files.size(journalPath());
+
+        // a save that was cut short after writing its first entry, but before its commit
+        appendLines(AddressBookJournal.changesBetween(List.of(ALICE, BENSON), List.of(), List.of(BENSON, CARL),
+                List.of()).subList(0, 1));
+
+        List<Person> replayed = new ArrayList<>(List.of(ALICE));
+        assertEquals(1, journal.replay(replayed, new ArrayList<>()));
+        assertEquals(List.of(ALICE, BENSON), replayed);
+        assertEquals(committedSize, Files.size(journalPath()));
+    }
+
+    @Test
+    public void replay_afterIncompleteLastEntry_laterSavesReplayed() throws Exception {
+        AddressBookJournal journal = newJournal();
+        journal.append(AddressBookJournal.changesBetween(List.of(), List.of(), List.of(ALICE), List.of()));
+        Files.writeString(journalPath(), "{\"person", UTF_8, StandardOpenOption.APPEND);
+        journal.replay(new ArrayList<>(), new ArrayList<>());
+
+        journal.append(AddressBookJournal.changesBetween(List.of(ALICE), List.of(), List.of(ALICE, BENSON),
+                List.of()));
+        List<Person> replayed = new ArrayList<>();
+        assertEquals(2, journal.replay(replayed, new ArrayList<>()));
+        assertEquals(List.of(ALICE, BENSON), replayed);
+    }
+
+    @Test
+    public void append_afterIncompleteLastEntry_refusedUntilReplayed() throws Exception {
+        AddressBookJournal journal = newJournal();
+        journal.append(AddressBookJournal.changesBetween(List.of(), List.of(), List.of(ALICE), List.of()));
+        Files.writeString(journalPath(), "{\"person", UTF_8, StandardOpenOption.APPEND);
+        List<JsonAdaptedJournalEntry> laterSave =
+                AddressBookJournal.changesBetween(List.of(ALICE), List.of(), List.of(ALICE, BENSON), List.of());
+
+        assertThrows(IOException.class, () -> journal.append(laterSave));
+        assertEquals(1, journal.replay(new ArrayList<>(), new ArrayList<>()));
+
+        journal.append(laterSave);
+        List<Person> replayed = new ArrayList<>();
+        assertEquals(2, journal.replay(replayed, new ArrayList<>()));
+        assertEquals(List.of(ALICE, BENSON), replayed);
+    }
+
+    @Test
+    public void replay_lastEntryWithoutLineTerminator_rolledBack() throws Exception {
+        AddressBookJournal journal = newJournal();
+        journal.append(AddressBookJournal.changesBetween(List.of(), List.of(), List.of(ALICE), List.of()));
+        long committedSize = Files.size(journalPath());
+        // a save that was cut short just before the line terminator of its commit
+        JsonAdaptedJournalEntry commit = AddressBookJournal.changesBetween(List.of(ALICE), List.of(),
+                List.of(ALICE, BENSON), List.of()).get(0).committing();
+        Files.writeString(journalPath(), JsonUtil.toCompactJsonString(commit), UTF_8, StandardOpenOption.APPEND);
+
+        List<Person> replayed = new ArrayList<>();
+        assertEquals(1, journal.replay(replayed, new ArrayList<>()));
+        assertEquals(List.of(ALICE), replayed);
+        assertEquals(committedSize, Files.size(journalPath()));
+    }
+
+    @Test
+    public void replay_journalWithoutTransactions_everyEntryReplayed() throws Exception {
+        AddressBookJournal journal = newJournal();
+        Path snapshotPath = testFolder.resolve("snapshot.json");
+        Files.writeString(journalPath(), JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(
+                Files.size(snapshotPath), Files.getLastModifiedTime(snapshotPath).toMillis(), null, false)) + "\n");
+        appendLines(AddressBookJournal.changesBetween(List.of(), List.of(), List.of(ALICE, BENSON), List.of()));
+
+        assertTrue(journal.isCurrent());
+        List<Person> replayed = new ArrayList<>();
+        assertEquals(2, journal.replay(replayed, new ArrayList<>()));
+        assertEquals(List.of(ALICE, BENSON), replayed);
+    }
+
+    @Test
+    public void isCurrent_snapshotReplacedWithSameSizeAndTime_false() throws Exception {
+        AddressBookJournal journal = newJournal();
+        Path snapshotPath = testFolder.resolve("snapshot.json");
+        journal.append(AddressBookJournal.changesBetween(List.of(), List.of(), List.of(ALICE), List.of()));
+        assertTrue(journal.isCurrent());
+
+        // a new snapshot of the same size, written within the same tick of a coarse clock
+        FileTime modified = Files.getLastModifiedTime(snapshotPath);
+        Files.writeString(snapshotPath, "[]");
+        Files.setLastModifiedTime(snapshotPath, modified);
+        assertFalse(journal.isCurrent());
+    }
+
+    private AddressBookJournal newJournal() throws Exception {
+        Files.writeString(testFolder.resolve("snapshot.json"), "{}");
+        return new AddressBookJournal(journalPath(), testFolder.resolve("snapshot.json"));
+    }
+
+    private Path journalPath() {
+        return testFolder.resolve("snapshot.json.journal");
+    }
+
+    /**
+     * Appends {@code entries} to the journal file as they are, without committing them.
+     */
+    private void appendLines(List<JsonAdaptedJournalEntry> entries) throws Exception {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        Files.writeString(journalPath(), lines, UTF_8, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Asserts that the journal entries between {@code saved} and {@code current} number {@code expectedEntryCount},
+     * and that replaying them from a file turns {@code saved} into {@code current}.
+     */
+    private void assertChangesReplayed(List<Person> saved, List<Person> current, int expectedEntryCount) {
+        try {
+            Path snapshotPath = Files.createTempFile(testFolder, "snapshot", ".json");
+            Path journalPath = Files.createTempFile(testFolder, "journal", ".journal");
+            Files.delete(journalPath);
+            AddressBookJournal journal = new AddressBookJournal(journalPath, snapshotPath);
+
+            List<JsonAdaptedJournalEntry> entries =
+                    AddressBookJournal.changesBetween(saved, List.of(), current, List.of());
+            journal.append(entries);
+
+            List<Person> replayed = new ArrayList<>(saved);
+            assertEquals(expectedEntryCount, journal.replay(replayed, new ArrayList<Appointment>()));
+            assertEquals(current, replayed);
+        } catch (Exception e) {
+            throw new AssertionError("Execution of journal should not fail.", e);
+        }
+    }
+}
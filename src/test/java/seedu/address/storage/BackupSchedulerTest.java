@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackupSchedulerTest {
+
+    private static final Duration LONG_INTERVAL = Duration.ofHours(1);
+    private static final Duration SHORT_INTERVAL = Duration.ofMillis(10);
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBook addressBook = new AddressBook();
+    private final ScheduledExecutorService backupExecutor = Executors.newSingleThreadScheduledExecutor();
+    private RecordingBackups backups;
+
+    @BeforeEach
+    public void setUp() {
+        backups = new RecordingBackups(testFolder);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        backupExecutor.shutdownNow();
+    }
+
+    @Test
+    public void constructor_nonPositiveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BackupScheduler(backups, () -> addressBook,
+                Runnable::run, Duration.ZERO, backupExecutor));
+    }
+
+    @Test
+    public void startBackup_unchangedAddressBook_notBackedUpAgain() throws Exception {
+        BackupScheduler scheduler = new BackupScheduler(backups, () -> addressBook, Runnable::run, LONG_INTERVAL,
+                backupExecutor);
+
+        addressBook.addPerson(ALICE);
+        scheduler.startBackup();
+        scheduler.startBackup();
+        addressBook.addPerson(BENSON);
+        scheduler.startBackup();
+        scheduler.stop();
+
+        List<AddressBook> backedUp = backups.getBackedUp();
+        assertEquals(2, backedUp.size());
+        assertEquals(List.of(ALICE), backedUp.get(0).getPersonList());
+        assertEquals(List.of(ALICE, BENSON), backedUp.get(1).getPersonList());
+        assertEquals(2, backups.list().size());
+    }
+
+    @Test
+    public void start_changedAddressBook_backedUpInBackground() throws Exception {
+        BackupScheduler scheduler = new BackupScheduler(backups, () -> addressBook, Runnable::run, SHORT_INTERVAL,
+                backupExecutor);
+
+        addressBook.addPerson(ALICE);
+        scheduler.start();
+        List<AddressBook> backedUp = backups.awaitBackedUp(1);
+        scheduler.stop();
+
+        assertEquals(List.of(ALICE), backedUp.get(0).getPersonList());
+    }
+
+    /**
+     * {@code AddressBookBackups} that records a copy of every address book it is asked to back up.
+     */
+    private static class RecordingBackups extends AddressBookBackups {
+        private final List<AddressBook> backedUp = new ArrayList<>();
+
+        RecordingBackups(Path directory) {
+            super(directory, Clock.systemDefaultZone(), DEFAULT_MAX_DELTAS_PER_FULL_COPY, DEFAULT_MAX_BACKUPS);
+        }
+
+        @Override
+        public synchronized boolean backUp(ReadOnlyAddressBook addressBook) throws IOException {
+            backedUp.add(new AddressBook(addressBook));
+            notifyAll();
+            return super.backUp(addressBook);
+        }
+
+        synchronized List<AddressBook> getBackedUp() {
+            return new ArrayList<>(backedUp);
+        }
+
+        synchronized List<AddressBook> awaitBackedUp(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (backedUp.size() < count && System.nanoTime() < deadline) {
+                wait(100);
+            }
+            return getBackedUp();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("none.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookReader.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_convertedAtNextSave() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+
+        storage.saveAddressBook(readBack);
+        assertTrue(BinaryAddressBookReader.isBinaryFile(filePath));
+        assertTrue(Files.size(filePath) < Files.size(saveAsJson(getTypicalAddressBook())));
+    }
+
+    @Test
+    public void readAddressBook_binaryFileAsJson_convertedAtNextSave() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+
+        storage.saveAddressBook(readBack);
+        assertFalse(BinaryAddressBookReader.isBinaryFile(filePath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        byte[] flipped = bytes.clone();
+        flipped[bytes.length / 2] ^= 1;
+        Files.write(filePath, flipped);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journaledBinarySnapshot_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(BinaryAddressBookReader.isBinaryFile(filePath));
+        assertEquals(addressBook, new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath))
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_memoryMapped_sameAsCopied() throws Exception {
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryPath, true).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(binaryPath, true, true).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new BinaryAddressBookReader().read(MappedFile.map(binaryPath, 5)));
+
+        Path jsonPath = saveAsJson(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(jsonPath, false, true).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(jsonPath, true).readAddressBook().get()));
+        assertEquals(JsonChecksum.Result.VALID, JsonChecksum.verify(MappedFile.map(jsonPath, 5)));
+    }
+
+    @Test
+    public void readAddressBook_memoryMappedDamagedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 3] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_lazilyLoaded_sameAsEager() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, false, true);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+        assertEquals(ALICE.getPastMedicalHistory(), readBack.getPersonList().get(0).getPastMedicalHistory());
+
+        // histories can still be read after the file they were loaded from is replaced
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(readBack);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    private Path saveAsJson(ReadOnlyAddressBook addressBook) throws Exception {
+        Path jsonPath = testFolder.resolve("compact.json");
+        new JsonAddressBookStorage(jsonPath, false).saveAddressBook(addressBook);
+        return jsonPath;
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HydrationCacheTest {
+
+    private static final List<String> STRINGS = List.of("first", "second", "ünïcödé");
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<String> hydrated = new ArrayList<>();
+    private final List<Long> offsets = new ArrayList<>();
+    private Path filePath;
+    private MappedFile file;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("strings.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            for (String string : STRINGS) {
+                offsets.add((long) out.size());
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+        file = MappedFile.map(filePath);
+    }
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new HydrationCache<>(file, string -> string, 0));
+    }
+
+    @Test
+    public void getString_notCached_nothingHydrated() {
+        HydrationCache<String> cache = new HydrationCache<>(file, this::hydrate, 2);
+        assertEquals("ünïcödé", cache.getString(offsets.get(2)));
+        assertEquals(List.of(), hydrated);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void copyStoredString_string_copiedAsStored() throws Exception {
+        HydrationCache<String> cache = new HydrationCache<>(file, this::hydrate, 2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.copyStoredString(offsets.get(1), out);
+        assertArrayEquals(Arrays.copyOfRange(Files.readAllBytes(filePath), offsets.get(1).intValue(),
+                offsets.get(2).intValue()), out.toByteArray());
+        assertEquals(List.of(), hydrated);
+    }
+
+    @Test
+    public void get_cachedValue_notDecodedAgain() {
+        HydrationCache<String> cache = new HydrationCache<>(file, this::hydrate, 2);
+        assertEquals("first", cache.get(offsets.get(0)));
+        assertEquals("first", cache.get(offsets.get(0)));
+        assertEquals(List.of("first"), hydrated);
+    }
+
+    @Test
+    public void get_overCapacity_leastRecentlyUsedEvicted() {
+        HydrationCache<String> cache = new HydrationCache<>(file, this::hydrate, 2);
+        cache.get(offsets.get(0));
+        cache.get(offsets.get(1));
+        cache.get(offsets.get(0));
+        cache.get(offsets.get(2));
+        assertEquals(2, cache.size());
+
+        // "second" was the least recently used, so only it has to be decoded again
+        cache.get(offsets.get(0));
+        cache.get(offsets.get(1));
+        assertEquals(List.of("first", "second", "ünïcödé", "second"), hydrated);
+    }
+
+    private String hydrate(String string) {
+        hydrated.add(string);
+        return string;
+    }
+}
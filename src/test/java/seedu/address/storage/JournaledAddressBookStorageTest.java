@@ -0,0 +1,269 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JournaledAddressBookStorage.JOURNAL_FILE_SUFFIX);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("none.json"), true);
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(Files.exists(getJournalPath(filePath)));
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSnapshot_appendedToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Person editedCarl = new PersonBuilder(CARL).withTags("diabetic").build();
+        addressBook.setPerson(CARL, editedCarl);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        addressBook.removeAppointment(APPT_ALICE);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        // header, then one entry per change
+        assertEquals(6, Files.readAllLines(getJournalPath(filePath)).size());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath, true).readAddressBook().get();
+        assertEquals(addressBook, readBack);
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(getJournalPath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsChangesSinceRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JournaledAddressBookStorage(filePath, true).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addAppointment(new AppointmentBuilder().withPatientId(HOON.getIdentityNumber()).build());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(3, Files.readAllLines(getJournalPath(filePath)).size());
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath, true).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterReadFromSegments_savesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new SegmentedAddressBookStorage(new JsonAddressBookStorage(filePath), true)
+                .saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                new SegmentedAddressBookStorage(new JsonAddressBookStorage(filePath), false));
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(getJournalPath(filePath)));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_memoryMappedJournal_replayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage mappedStorage = new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(filePath, true, true), true);
+        assertEquals(addressBook, mappedStorage.readAddressBook().get());
+        assertEquals(2, mappedStorage.getJournalEntryCount());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+
+        Files.writeString(getJournalPath(filePath), "{\"op\":\"INSERT\",\"index\":8,\"per",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(expected, new JournaledAddressBookStorage(filePath, true).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Path journalPath = getJournalPath(filePath);
+        List<String> lines = Files.readAllLines(journalPath);
+        Files.write(journalPath, List.of(lines.get(0), "{\"op\":\"INSERT\",\"index\":99,\"per", lines.get(1)));
+
+        assertThrows(DataLoadingException.class, () ->
+                new JournaledAddressBookStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOlderThanSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // a snapshot written after the journal was started already includes its changes
+        new JsonAddressBookStorage(filePath, false).saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath, true).readAddressBook().get());
+        assertFalse(Files.exists(getJournalPath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_tooManyJournalEntries_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true, 2, Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, storage.getJournalEntryCount());
+        assertTrue(Files.exists(getJournalPath(filePath)));
+
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(0, storage.getJournalEntryCount());
+        assertFalse(Files.exists(getJournalPath(filePath)));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(List.of(filePath.getFileName()), Files.list(testFolder).map(Path::getFileName).toList());
+
+        // journaling continues after the new snapshot
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath, true).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalTooLarge_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true, Integer.MAX_VALUE, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(getJournalPath(filePath)));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalEntries_counted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage rereadStorage = new JournaledAddressBookStorage(filePath, true, 2, Long.MAX_VALUE);
+        rereadStorage.readAddressBook();
+        assertEquals(2, rereadStorage.getJournalEntryCount());
+
+        // the next change takes the journal over the limit
+        addressBook.removePerson(HOON);
+        rereadStorage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(getJournalPath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_savedAsSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path otherPath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+
+        storage.saveAddressBook(addressBook, otherPath);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(getJournalPath(otherPath)));
+        assertEquals(addressBook, new JsonAddressBookStorage(otherPath).readAddressBook().get());
+        assertTrue(Files.exists(getJournalPath(filePath)));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Email;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    private final JsonAddressBookReader reader = new JsonAddressBookReader();
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> reader.read((Path) null));
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(),
+                reader.read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json")));
+    }
+
+    @Test
+    public void read_invalidSecondPerson_reportsRecordPosition() {
+        String expectedMessage = String.format(JsonAddressBookReader.MESSAGE_INVALID_RECORD,
+                "person", 2, 18, 6, Email.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                reader.read(TEST_DATA_FOLDER.resolve("invalidSecondPersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                reader.read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_duplicateAppointments_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT, () ->
+                reader.read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateAppointmentAddressBook.json")));
+    }
+
+    @Test
+    public void read_notAnAddressBook_throwsIoException() {
+        assertThrows(IOException.class, () -> reader.read(TEST_DATA_FOLDER.resolve("notAnAddressBook.json")));
+    }
+}
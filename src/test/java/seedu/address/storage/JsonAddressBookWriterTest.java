@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JsonAddressBookWriter(true).write(null, testFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void write_prettyPrinted_serializedAddressBookWithChecksum() throws Exception {
+        Path filePath = testFolder.resolve("pretty.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookWriter(true).write(original, filePath);
+
+        String serialized = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        String written = Files.readString(filePath);
+        String withoutEnd = serialized.substring(0, serialized.lastIndexOf("\n}"));
+        assertTrue(written.startsWith(withoutEnd + ",\n  \"checksum\" : \""));
+        assertEquals(JsonChecksum.Result.VALID, JsonChecksum.verify(filePath));
+        assertEquals(original, new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void write_compact_readBackWithoutWhitespaceBetweenTokens() throws Exception {
+        Path filePath = testFolder.resolve("compact.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookWriter(false).write(original, filePath);
+
+        String written = Files.readString(filePath);
+        assertFalse(written.contains("\n"));
+        assertFalse(written.contains("\" : "));
+        assertEquals(original, new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void write_existingFile_replacesContents() throws Exception {
+        Path filePath = testFolder.resolve("existing.json");
+        Files.writeString(filePath, "x".repeat(100_000));
+
+        new JsonAddressBookWriter(false).write(new AddressBook(), filePath);
+
+        assertTrue(Files.readString(filePath).matches(
+                "\\{\"persons\":\\[],\"appointments\":\\[],\"checksum\":\"[0-9a-f]{8}\"}"));
+        assertEquals(List.of(filePath.getFileName()), Files.list(testFolder).map(Path::getFileName).toList());
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonChecksumTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void verify_writtenFile_valid() throws Exception {
+        Path prettyPath = testFolder.resolve("pretty.json");
+        new JsonAddressBookWriter(true).write(getTypicalAddressBook(), prettyPath);
+        assertEquals(JsonChecksum.Result.VALID, JsonChecksum.verify(prettyPath));
+
+        Path compactPath = testFolder.resolve("compact.json");
+        new JsonAddressBookWriter(false).write(new AddressBook(), compactPath);
+        assertEquals(JsonChecksum.Result.VALID, JsonChecksum.verify(compactPath));
+    }
+
+    @Test
+    public void verify_changedContent_mismatch() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookWriter(true).write(getTypicalAddressBook(), filePath);
+
+        Files.writeString(filePath, Files.readString(filePath).replace("ALICE", "ALICIA"));
+
+        assertEquals(JsonChecksum.Result.MISMATCH, JsonChecksum.verify(filePath));
+    }
+
+    @Test
+    public void verify_noChecksum_missing() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, JsonUtil.toJsonString(new JsonSerializableAddressBook(getTypicalAddressBook())));
+        assertEquals(JsonChecksum.Result.MISSING, JsonChecksum.verify(filePath));
+
+        Files.writeString(filePath, "");
+        assertEquals(JsonChecksum.Result.MISSING, JsonChecksum.verify(filePath));
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.PastMedicalHistory;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LazyPastMedicalHistoryTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<String> hydrated = new ArrayList<>();
+    private MappedFile file;
+    private HydrationCache<PastMedicalHistory> cache;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path filePath = testFolder.resolve("histories.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            writeString(out, "Asthma");
+            writeString(out, ALICE.getPastMedicalHistory().value);
+        }
+        file = MappedFile.map(filePath);
+        cache = new HydrationCache<>(file, this::hydrate, 2);
+    }
+
+    @Test
+    public void get_value_hydratedOnce() {
+        LazyPastMedicalHistory history = aliceHistory();
+        assertEquals(ALICE.getPastMedicalHistory(), history.get());
+        assertEquals(ALICE.getPastMedicalHistory(), history.get());
+        assertEquals(List.of(ALICE.getPastMedicalHistory().value), hydrated);
+    }
+
+    @Test
+    public void isStoredAtSamePlace() {
+        assertTrue(aliceHistory().isStoredAtSamePlace(aliceHistory()));
+        assertFalse(aliceHistory().isStoredAtSamePlace(new LazyPastMedicalHistory(cache, 0)));
+        assertFalse(aliceHistory().isStoredAtSamePlace(new LazyPastMedicalHistory(
+                new HydrationCache<>(file, this::hydrate, 2), aliceOffset())));
+    }
+
+    @Test
+    public void personMethods_lazyHistory_notHydrated() {
+        Person alice = lazyAlice();
+        assertEquals(ALICE, alice);
+        assertEquals(alice, ALICE);
+        assertEquals(alice, lazyAlice());
+        assertFalse(alice.equals(new PersonBuilder(ALICE).withPastMedicalHistory("Asthma").build()));
+        assertEquals(ALICE.hashCode(), alice.hashCode());
+        assertEquals(ALICE.toString(), alice.toString());
+        assertEquals(List.of(), hydrated);
+    }
+
+    @Test
+    public void save_lazyHistory_copiedWithoutHydrating() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(lazyAlice());
+
+        assertEquals(ALICE, new JsonAdaptedPerson(lazyAlice()).toModelType());
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookWriter().write(addressBook, binaryPath);
+        assertEquals(List.of(ALICE), new BinaryAddressBookReader().read(binaryPath).getPersonList());
+        assertEquals(List.of(), hydrated);
+    }
+
+    private long aliceOffset() {
+        return Integer.BYTES + "Asthma".length();
+    }
+
+    private LazyPastMedicalHistory aliceHistory() {
+        return new LazyPastMedicalHistory(cache, aliceOffset());
+    }
+
+    private Person lazyAlice() {
+        return new Person(ALICE.getName(), ALICE.getIdentityNumber(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getEmergencyContact(), ALICE.getTags(), ALICE.getDateOfBirth(),
+                ALICE.getBloodType(), ALICE.getAlcoholicRecord(), ALICE.getGender(), ALICE.getSmokingRecord(),
+                ALICE.getAllergies(), aliceHistory(), ALICE.getMedicines());
+    }
+
+    private PastMedicalHistory hydrate(String string) {
+        hydrated.add(string);
+        return new PastMedicalHistory(string);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws Exception {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private byte[] writeBytes(Path filePath, int size) throws Exception {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        Files.write(filePath, bytes);
+        return bytes;
+    }
+
+    @Test
+    public void map_chunkedFile_sameContentAsFile() throws Exception {
+        Path filePath = testFolder.resolve("file.bin");
+        byte[] bytes = writeBytes(filePath, 1000);
+
+        // chunk sizes that do and do not divide the file size, or split every integer
+        for (int chunkSize : new int[] {1, 3, 7, 64, 1000, MappedFile.MAX_CHUNK_SIZE}) {
+            MappedFile file = MappedFile.map(filePath, chunkSize);
+            assertEquals(bytes.length, file.size());
+            assertArrayEquals(bytes, file.newInputStream().readAllBytes());
+            assertArrayEquals(Arrays.copyOfRange(bytes, 5, 995), file.newInputStream(5, 995).readAllBytes());
+            assertEquals(ByteBuffer.wrap(bytes).getInt(61), file.getInt(61));
+            assertEquals(bytes[999], file.get(999));
+
+            CRC32C expected = new CRC32C();
+            expected.update(bytes, 10, 900);
+            CRC32C actual = new CRC32C();
+            file.update(actual, 10, 910);
+            assertEquals(expected.getValue(), actual.getValue());
+        }
+    }
+
+    @Test
+    public void isReplaceableWhileMapped_windows_false() {
+        assertFalse(MappedFile.isReplaceableWhileMapped("Windows 11"));
+        assertTrue(MappedFile.isReplaceableWhileMapped("Linux"));
+        assertTrue(MappedFile.isReplaceableWhileMapped("Mac OS X"));
+    }
+
+    @Test
+    public void map_emptyFile_emptyContent() throws Exception {
+        Path filePath = testFolder.resolve("empty.bin");
+        Files.write(filePath, new byte[0]);
+
+        MappedFile file = MappedFile.map(filePath);
+        assertEquals(0, file.size());
+        assertEquals(-1, file.newInputStream().read());
+    }
+
+    @Test
+    public void getInt_outsideFile_throwsIndexOutOfBoundsException() throws Exception {
+        Path filePath = testFolder.resolve("file.bin");
+        writeBytes(filePath, 10);
+        MappedFile file = MappedFile.map(filePath, 4);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> file.getInt(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> file.newInputStream(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> MappedFile.map(filePath, 0));
+    }
+}
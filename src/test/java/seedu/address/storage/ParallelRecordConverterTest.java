@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int LARGE_SIZE = ParallelRecordConverter.MIN_PARALLEL_SIZE * 20;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void convertAll_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                ParallelRecordConverter.convertAll(null, record -> record, (index, ive) -> ive));
+    }
+
+    @Test
+    public void convertAll_smallList_convertedInOrder() throws Exception {
+        List<Integer> records = IntStream.range(0, 10).boxed().toList();
+        assertEquals(IntStream.range(0, 10).mapToObj(String::valueOf).toList(),
+                ParallelRecordConverter.convertAll(records, String::valueOf, (index, ive) -> ive));
+        assertEquals(List.of(), ParallelRecordConverter.convertAll(List.of(), String::valueOf, (index, ive) -> ive));
+    }
+
+    @Test
+    public void convertAll_largeList_convertedInOrder() throws Exception {
+        List<Integer> records = IntStream.range(0, LARGE_SIZE).boxed().toList();
+        assertEquals(IntStream.range(0, LARGE_SIZE).mapToObj(String::valueOf).toList(),
+                ParallelRecordConverter.convertAll(records, String::valueOf, (index, ive) -> ive, pool));
+    }
+
+    @Test
+    public void convertAll_severalFailures_firstFailureThrown() {
+        List<Integer> failing = List.of(5, 12, LARGE_SIZE / 3, LARGE_SIZE / 2, LARGE_SIZE - 1);
+        List<Integer> records = IntStream.range(0, LARGE_SIZE).boxed().toList();
+        ParallelRecordConverter.Conversion<Integer, Integer> conversion = record -> {
+            if (failing.contains(record)) {
+                throw new IllegalValueException("Record " + record);
+            }
+            return record;
+        };
+
+        ParallelRecordConverter.FailureDescriber describer = (index, ive) ->
+                new IllegalValueException("#" + index + ": " + ive.getMessage());
+
+        assertThrows(IllegalValueException.class, "#5: Record 5", () ->
+                ParallelRecordConverter.convertAll(records.subList(0, 20), conversion, describer));
+        assertThrows(IllegalValueException.class, "#5: Record 5", () ->
+                ParallelRecordConverter.convertAll(records, conversion, describer, pool));
+        String expectedMessage = "#" + (LARGE_SIZE / 3) + ": Record " + (LARGE_SIZE / 3);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                ParallelRecordConverter.convertAll(records.subList(13, LARGE_SIZE), conversion,
+                        (index, ive) -> describer.describe(index + 13, ive), pool));
+    }
+}
@@ -0,0 +1,247 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
+import static seedu.address.testutil.TypicalAppointments.APPT_BENSON;
+import static seedu.address.testutil.TypicalAppointments.APPT_CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class SegmentedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> segmenting("addressBook.json").readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(segmenting("none.json").readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        SegmentedAddressBookStorage storage = segmenting("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        Path directory = testFolder.resolve("addressBook.json.segments");
+        assertFalse(Files.exists(testFolder.resolve("addressBook.json")));
+        assertTrue(Files.exists(directory.resolve("manifest.json")));
+        assertTrue(Files.exists(directory.resolve("persons-1.json")));
+        assertTrue(Files.exists(directory.resolve("appointments-2020-12-1.json")));
+        assertTrue(Files.exists(directory.resolve("appointments-9999-12-1.json")));
+        assertEquals(original, segmenting("addressBook.json").readAddressBook().get());
+
+        original.addPerson(HOON);
+        original.removeAppointment(APPT_CARL);
+        storage.saveAddressBook(original);
+        assertEquals(original, segmenting("addressBook.json").readAddressBook().get());
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), segmenting("addressBook.json").readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedSegment_notRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = segmenting("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Path directory = testFolder.resolve("addressBook.json.segments");
+
+        addressBook.removeAppointment(APPT_CARL);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(directory.resolve("persons-1.json")));
+        assertTrue(Files.exists(directory.resolve("appointments-2020-12-1.json")));
+        assertTrue(Files.exists(directory.resolve("appointments-9999-12-2.json")));
+        assertFalse(Files.exists(directory.resolve("appointments-9999-12-1.json")));
+
+        // a new storage does not know what was saved, so it writes every segment
+        segmenting("addressBook.json").saveAddressBook(addressBook);
+        assertTrue(Files.exists(directory.resolve("persons-3.json")));
+        assertFalse(Files.exists(directory.resolve("persons-1.json")));
+        assertEquals(addressBook, segmenting("addressBook.json").readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_monthEmptied_segmentDeleted() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        segmenting("addressBook.json").saveAddressBook(addressBook);
+
+        addressBook.removeAppointment(APPT_ALICE);
+        addressBook.removeAppointment(APPT_BENSON);
+        segmenting("addressBook.json").saveAddressBook(addressBook);
+        Path directory = testFolder.resolve("addressBook.json.segments");
+        assertFalse(Files.exists(directory.resolve("appointments-2020-12-1.json")));
+        assertFalse(Files.exists(directory.resolve("appointments-2020-12-2.json")));
+        assertEquals(addressBook, segmenting("addressBook.json").readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_wholeFile_convertedAtNextSave() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        SegmentedAddressBookStorage storage = segmenting("addressBook.json");
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), readBack);
+
+        storage.saveAddressBook(readBack);
+        assertFalse(Files.exists(filePath));
+        assertEquals(getTypicalAddressBook(), segmenting("addressBook.json").readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_segmentsWhenNotSegmenting_convertedAtNextSave() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        segmenting("addressBook.json").saveAddressBook(getTypicalAddressBook());
+        SegmentedAddressBookStorage storage = notSegmenting("addressBook.json");
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), readBack);
+        assertTrue(Files.exists(testFolder.resolve("addressBook.json.segments").resolve("manifest.json")));
+        assertFalse(Files.exists(filePath));
+
+        storage.saveAddressBook(readBack);
+        assertFalse(Files.exists(testFolder.resolve("addressBook.json.segments")));
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_wholeFileAndSegments_layoutOfStorageRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        segmenting("addressBook.json").saveAddressBook(getTypicalAddressBook());
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        // a save as a whole file that was cut short before the segments were deleted
+        new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+
+        assertEquals(changed, notSegmenting("addressBook.json").readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), segmenting("addressBook.json").readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_binarySegments_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new SegmentedAddressBookStorage(new BinaryAddressBookStorage(filePath), true)
+                .saveAddressBook(getTypicalAddressBook());
+
+        Path personsSegment = testFolder.resolve("addressBook.bin.segments").resolve("persons-1.bin");
+        assertTrue(BinaryAddressBookReader.isBinaryFile(personsSegment));
+        assertEquals(getTypicalAddressBook(),
+                new SegmentedAddressBookStorage(new BinaryAddressBookStorage(filePath, true), true)
+                        .readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedSegment_throwsDataLoadingException() throws Exception {
+        segmenting("addressBook.json").saveAddressBook(getTypicalAddressBook());
+        Path directory = testFolder.resolve("addressBook.json.segments");
+        Files.writeString(directory.resolve("appointments-9999-12-1.json"), "{ \"appointments\": [ {");
+
+        assertThrows(DataLoadingException.class, () -> segmenting("addressBook.json").readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicateAcrossSegments_throwsDataLoadingException() throws Exception {
+        segmenting("addressBook.json").saveAddressBook(getTypicalAddressBook());
+        Path directory = testFolder.resolve("addressBook.json.segments");
+        Files.copy(directory.resolve("appointments-2020-12-1.json"), directory.resolve("appointments-2021-01-1.json"));
+        JsonUtil.saveJsonFile(new JsonAdaptedSegmentManifest(1, "persons-1.json", Map.of(
+                "2020-12", "appointments-2020-12-1.json",
+                "2021-01", "appointments-2021-01-1.json",
+                "9999-12", "appointments-9999-12-1.json")), directory.resolve("manifest.json"));
+
+        assertThrows(DataLoadingException.class, () -> segmenting("addressBook.json").readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_firstSaveFailsPartway_wholeFileRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+
+        assertThrows(IOException.class, () -> failingAfter(1).saveAddressBook(changed));
+        assertTrue(Files.isDirectory(testFolder.resolve("addressBook.json.segments")));
+        assertEquals(getTypicalAddressBook(), segmenting("addressBook.json").readAddressBook().get());
+
+        segmenting("addressBook.json").saveAddressBook(changed);
+        assertEquals(changed, segmenting("addressBook.json").readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_laterSaveFailsPartway_lastSaveRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        segmenting("addressBook.json").saveAddressBook(original);
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        changed.removeAppointment(APPT_ALICE);
+        changed.removeAppointment(APPT_CARL);
+
+        assertThrows(IOException.class, () -> failingAfter(2).saveAddressBook(changed));
+        assertEquals(original, segmenting("addressBook.json").readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_segmentsWithoutManifest_readByName() throws Exception {
+        Path directory = testFolder.resolve("addressBook.json.segments");
+        AddressBook persons = new AddressBook();
+        persons.setPersons(getTypicalAddressBook().getPersonList());
+        new JsonAddressBookStorage(directory.resolve("persons.json")).saveAddressBook(persons);
+        AddressBook appointments = new AddressBook();
+        appointments.setAppointments(List.of(APPT_ALICE));
+        new JsonAddressBookStorage(directory.resolve("appointments-2020-12.json")).saveAddressBook(appointments);
+
+        AddressBook expected = new AddressBook(persons);
+        expected.addAppointment(APPT_ALICE);
+        assertEquals(expected, segmenting("addressBook.json").readAddressBook().get());
+    }
+
+    /**
+     * Returns a segmenting storage of "addressBook.json" whose saves of segments fail after {@code segmentCount}
+     * segments are written.
+     */
+    private SegmentedAddressBookStorage failingAfter(int segmentCount) {
+        return new SegmentedAddressBookStorage(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            private int savedCount;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (savedCount == segmentCount) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+                savedCount++;
+            }
+        }, true);
+    }
+
+    private SegmentedAddressBookStorage segmenting(String fileName) {
+        return new SegmentedAddressBookStorage(new JsonAddressBookStorage(testFolder.resolve(fileName)), true);
+    }
+
+    private SegmentedAddressBookStorage notSegmenting(String fileName) {
+        return new SegmentedAddressBookStorage(new JsonAddressBookStorage(testFolder.resolve(fileName)), false);
+    }
+}
@@ -1,9 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +38,27 @@ public class StorageManagerTest {
         return testFolder.resolve(fileName);
     }
 
+    private UserPrefs journaledUserPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(getTempFilePath("ab.json"));
+        userPrefs.setAddressBookJournaled(true);
+        return userPrefs;
+    }
+
+    /**
+     * Saves an address book with the storage given by {@code userPrefs}, which must journal it, so that its last
+     * change is only in the journal, and returns the address book.
+     */
+    private AddressBook saveWithPendingJournal(UserPrefs userPrefs) throws Exception {
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBookStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        addressBookStorage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(getTempFilePath("ab.json" + JournaledAddressBookStorage.JOURNAL_FILE_SUFFIX)));
+        return addressBook;
+    }
+
     @Test
     public void prefsReadSave() throws Exception {
         /*
@@ -60,6 +86,59 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedSinceSaved_skipped() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBook(new AddressBook(addressBook));
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        addressBook.removePerson(ALICE);
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(addressBook, storageManager.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedSinceRead_skipped() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storageManager.readAddressBook().get());
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        // saving to another file is never skipped
+        Path otherFilePath = getTempFilePath("other");
+        storageManager.saveAddressBook(addressBook, otherFilePath);
+        assertTrue(Files.exists(otherFilePath));
+    }
+
+    @Test
+    public void createAddressBookStorage_journalingTurnedOffWithPendingJournal_changesKept() throws Exception {
+        UserPrefs userPrefs = journaledUserPrefs();
+        AddressBook addressBook = saveWithPendingJournal(userPrefs);
+
+        userPrefs.setAddressBookJournaled(false);
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+        assertFalse(Files.exists(getTempFilePath("ab.json" + JournaledAddressBookStorage.JOURNAL_FILE_SUFFIX)));
+        assertEquals(addressBook, addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void createAddressBookStorage_segmentingTurnedOnWithPendingJournal_changesKept() throws Exception {
+        UserPrefs userPrefs = journaledUserPrefs();
+        AddressBook addressBook = saveWithPendingJournal(userPrefs);
+
+        userPrefs.setAddressBookSegmented(true);
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+        assertEquals(addressBook, addressBookStorage.readAddressBook().get());
+        addressBookStorage.saveAddressBook(addressBook);
+        assertEquals(addressBook, StorageManager.createAddressBookStorage(userPrefs).readAddressBook().get());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,238 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    private static final Duration LONG_STALENESS = Duration.ofHours(1);
+    private static final Duration SHORT_STALENESS = Duration.ofMillis(10);
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBook addressBook = new AddressBook();
+    private final ScheduledExecutorService saveExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        saveExecutor.shutdownNow();
+    }
+
+    @Test
+    public void requestSave_zeroStaleness_savesImmediately() throws Exception {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, () -> addressBook, Runnable::run, Duration.ZERO,
+                saveExecutor);
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave();
+        addressBook.addPerson(BENSON);
+        saver.requestSave();
+
+        assertEquals(2, storage.getSaved().size());
+    }
+
+    @Test
+    public void requestSave_unchangedAddressBook_notSavedAgain() throws Exception {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, () -> addressBook, Runnable::run, Duration.ZERO,
+                saveExecutor);
+
+        saver.requestSave();
+        saver.requestSave();
+        assertEquals(1, storage.getSaved().size());
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave();
+        assertEquals(2, storage.getSaved().size());
+    }
+
+    @Test
+    public void flush_burstOfChanges_savedOnceWithLatestChanges() throws Exception {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, () -> addressBook, Runnable::run, LONG_STALENESS,
+                saveExecutor);
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave();
+        addressBook.addPerson(BENSON);
+        saver.requestSave();
+        assertEquals(0, storage.getSaved().size());
+
+        saver.flush();
+        assertEquals(List.of(new AddressBook(addressBook)), storage.getSaved());
+
+        // nothing left to save
+        saver.flush();
+        assertEquals(1, storage.getSaved().size());
+    }
+
+    @Test
+    public void requestSave_afterMaxStaleness_savedInBackground() throws Exception {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, () -> addressBook, Runnable::run, SHORT_STALENESS,
+                saveExecutor);
+
+        addressBook.resetData(getTypicalAddressBook());
+        saver.requestSave();
+
+        assertEquals(List.of(getTypicalAddressBook()), storage.awaitSaved(1));
+    }
+
+    @Test
+    public void requestSave_backgroundSaveFails_errorHandled() throws Exception {
+        IOException error = new IOException("dummy IO exception");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw error;
+            }
+        };
+        WriteBehindSaver saver = new WriteBehindSaver(storage, () -> addressBook, Runnable::run, SHORT_STALENESS,
+                saveExecutor);
+        CompletableFuture<IOException> handledError = new CompletableFuture<>();
+        saver.setErrorHandler(handledError::complete);
+
+        saver.requestSave();
+
+        assertEquals(error, handledError.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void flush_saveFails_throwsIoException() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        };
+        WriteBehindSaver saver = new WriteBehindSaver(storage, () -> addressBook, Runnable::run, LONG_STALENESS,
+                saveExecutor);
+
+        saver.requestSave();
+
+        assertThrows(IOException.class, saver::flush);
+    }
+
+    @Test
+    public void stop_unsavedChanges_savedBeforeStopping() throws Exception {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, () -> addressBook, Runnable::run, LONG_STALENESS,
+                saveExecutor);
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave();
+        saver.stop();
+
+        assertEquals(1, storage.getSaved().size());
+        assertTrue(saveExecutor.isTerminated());
+    }
+
+    @Test
+    public void requestSave_backgroundSaveFails_savedAgainLater() throws Exception {
+        FailingOnceAddressBookStorage storage =
+                new FailingOnceAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, () -> addressBook, Runnable::run, SHORT_STALENESS,
+                saveExecutor);
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave();
+
+        assertEquals(List.of(new AddressBook(addressBook)), storage.awaitSaved(1));
+    }
+
+    @Test
+    public void stop_backgroundSaveFailed_savedBeforeStopping() throws Exception {
+        FailingOnceAddressBookStorage storage =
+                new FailingOnceAddressBookStorage(testFolder.resolve("addressBook.json"));
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        WriteBehindSaver saver = new WriteBehindSaver(storage, () -> addressBook, modelTasks::add, SHORT_STALENESS,
+                saveExecutor);
+        CompletableFuture<IOException> handledError = new CompletableFuture<>();
+        saver.setErrorHandler(handledError::complete);
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave();
+        // starts the background save, and then handles its error, but not the save tried again after it
+        modelTasks.poll(10, TimeUnit.SECONDS).run();
+        modelTasks.poll(10, TimeUnit.SECONDS).run();
+        assertTrue(handledError.isDone());
+        assertEquals(0, storage.getSaved().size());
+
+        saver.stop();
+        assertEquals(List.of(new AddressBook(addressBook)), storage.getSaved());
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records a copy of every address book it is asked to save.
+     */
+    private static class RecordingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<AddressBook> saved = new ArrayList<>();
+
+        RecordingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saved.add(new AddressBook(addressBook));
+            notifyAll();
+        }
+
+        synchronized List<AddressBook> getSaved() {
+            return new ArrayList<>(saved);
+        }
+
+        synchronized List<AddressBook> awaitSaved(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (saved.size() < count && System.nanoTime() < deadline) {
+                wait(100);
+            }
+            return getSaved();
+        }
+    }
+
+    /**
+     * A {@code RecordingAddressBookStorage} whose first save fails.
+     */
+    private static class FailingOnceAddressBookStorage extends RecordingAddressBookStorage {
+        private boolean hasFailed;
+
+        FailingOnceAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw new IOException("dummy IO exception");
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.testutil;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A {@code Clock} that only moves when it is set, to be used in tests.
+ */
+public class ManualClock extends Clock {
+
+    private LocalDateTime now;
+
+    public ManualClock(LocalDateTime now) {
+        this.now = now;
+    }
+
+    /**
+     * Sets the time told by this clock to {@code now}.
+     */
+    public void setTime(LocalDateTime now) {
+        this.now = now;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+        return now.toInstant(ZoneOffset.UTC);
+    }
+}